@@ -0,0 +1,86 @@
+package com.secrets.util;
+
+import com.secrets.entity.Secret;
+import com.secrets.service.AesEncryptionService;
+import com.secrets.service.EncryptionService;
+import com.secrets.service.crypto.MasterKeyRing;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decrypting a page of secrets: one by one on the request thread, as listings did before,
+ * against {@link EncryptionUtil#decryptSecretValues} on the bounded decrypt pool. Pages of
+ * 100 and 500 rows. Sample mode reports the tail (p99, p99.9) the pool bound is meant to
+ * keep down; the GC profiler reports bytes allocated per page (gc.alloc.rate.norm).
+ *
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="EncryptionUtilBenchmark -prof gc"
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EncryptionUtilBenchmark {
+
+    @Param({"100", "500"})
+    private int pageSize;
+
+    private EncryptionUtil encryptionUtil;
+    private List<Secret> page;
+
+    @Setup
+    public void setUp() {
+        MasterKeyRing masterKeyRing = new MasterKeyRing("BenchmarkEncryptionKey32Bytes!!!", 1, new StandardEnvironment());
+        // Master-key payloads only, so no data keys (and no database) are needed
+        EncryptionService encryptionService = new AesEncryptionService(masterKeyRing, null);
+        encryptionUtil = new EncryptionUtil(encryptionService, new SimpleMeterRegistry(), 0, 1000, 8);
+
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Secret secret = new Secret();
+            secret.setProjectId(UUID.randomUUID());
+            secret.setSecretKey("KEY_" + i);
+            secret.setEncryptedPayload(encryptionService.encrypt(
+                ("value-" + i + "-" + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8)));
+            page.add(secret);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        encryptionUtil.shutdown();
+    }
+
+    @Benchmark
+    public List<String> sequential() {
+        List<String> values = new ArrayList<>(page.size());
+        for (Secret secret : page) {
+            values.add(encryptionUtil.decryptSecretValue(secret));
+        }
+        return values;
+    }
+
+    @Benchmark
+    public List<String> decryptPool() {
+        return encryptionUtil.decryptSecretValues(page);
+    }
+}
@@ -31,12 +31,27 @@ public class CacheConfig {
     @Value("${app.cache.user-ids.maximum-size:20000}")
     private long userIdMaxSize;
 
+    @Value("${app.cache.secret-ciphertexts.ttl:PT1M}")
+    private Duration secretCiphertextTtl;
+
+    @Value("${app.cache.secret-ciphertexts.maximum-size:10000}")
+    private long secretCiphertextMaxSize;
+
+    @Value("${app.cache.data-keys.ttl:PT10M}")
+    private Duration dataKeyTtl;
+
+    @Value("${app.cache.data-keys.maximum-size:5000}")
+    private long dataKeyMaxSize;
+
     @Bean
     public CacheManager cacheManager(MeterRegistry meterRegistry) {
         SimpleCacheManager manager = new SimpleCacheManager();
         CaffeineCache projectMemberships = buildCache("projectMemberships", projectMembershipTtl, projectMembershipMaxSize, meterRegistry);
         CaffeineCache userIdsByEmail = buildCache("userIdsByEmail", userIdTtl, userIdMaxSize, meterRegistry);
-        manager.setCaches(List.of(projectMemberships, userIdsByEmail));
+        CaffeineCache activeDataKeys = buildCache("activeDataKeys", dataKeyTtl, dataKeyMaxSize, meterRegistry);
+        CaffeineCache dataKeys = buildCache("dataKeys", dataKeyTtl, dataKeyMaxSize, meterRegistry);
+        CaffeineCache secretCiphertexts = buildCache("secretCiphertexts", secretCiphertextTtl, secretCiphertextMaxSize, meterRegistry);
+        manager.setCaches(List.of(projectMemberships, userIdsByEmail, activeDataKeys, dataKeys, secretCiphertexts));
         return manager;
     }
 
@@ -45,6 +45,7 @@ public class CorsConfig {
             "X-RateLimit-Limit",
             "X-RateLimit-Remaining",
             "X-RateLimit-Reset",
+            "X-Next-Before",
             "Authorization"
         ));
         
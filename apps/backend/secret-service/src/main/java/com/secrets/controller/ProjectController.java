@@ -3,6 +3,8 @@ package com.secrets.controller;
 import com.secrets.dto.project.ProjectRequest;
 import com.secrets.dto.project.ProjectResponse;
 import com.secrets.service.ProjectService;
+import com.secrets.service.SecretBundleService;
+import com.secrets.service.SecretExportService;
 import com.secrets.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -12,11 +14,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.UUID;
 
@@ -28,10 +36,16 @@ public class ProjectController {
 
     private final ProjectService projectService;
     private final UserService userService;
+    private final SecretExportService secretExportService;
+    private final SecretBundleService secretBundleService;
 
-    public ProjectController(ProjectService projectService, UserService userService) {
+    public ProjectController(ProjectService projectService, UserService userService,
+                             SecretExportService secretExportService,
+                             SecretBundleService secretBundleService) {
         this.projectService = projectService;
         this.userService = userService;
+        this.secretExportService = secretExportService;
+        this.secretBundleService = secretBundleService;
     }
 
     @GetMapping
@@ -58,6 +72,54 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    @GetMapping("/{id}/export")
+    @Operation(summary = "Export project secrets",
+        description = "Stream every secret of a project with decrypted values. format is ndjson (default), env " +
+            "or json; ndjson and env output can be re-imported through POST /secrets/bulk.")
+    public ResponseEntity<StreamingResponseBody> exportProjectSecrets(
+            @PathVariable UUID id,
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+        SecretExportService.Format exportFormat = SecretExportService.Format.parse(format);
+
+        StreamingResponseBody body = secretExportService.exportProjectSecrets(id, exportFormat, userId);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(exportFormat.getMediaType());
+        headers.setContentDisposition(ContentDisposition.attachment()
+            .filename("secrets-" + id + "." + exportFormat.getExtension())
+            .build());
+        headers.setCacheControl(CacheControl.noStore());
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    @GetMapping("/{id}/bundle")
+    @Operation(summary = "Get project secret bundle",
+        description = "All secrets of a project as one gzip-compressed JSON document (Content-Encoding: gzip), " +
+            "built once per secret revision. X-Bundle-Signature carries an HMAC-SHA256 of the uncompressed JSON. " +
+            "Send the ETag back as If-None-Match to get 304 while nothing changed.")
+    public ResponseEntity<byte[]> getSecretBundle(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        long revision = secretBundleService.currentRevision(id, userId);
+        if (webRequest.checkNotModified("b" + revision)) {
+            return null;
+        }
+
+        SecretBundleService.Bundle bundle = secretBundleService.getBundle(id, revision, userId);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        headers.setContentLength(bundle.getCompressed().length);
+        headers.setETag("\"b" + bundle.getRevision() + "\"");
+        headers.set("X-Bundle-Signature", "hmac-sha256=" + bundle.getSignature());
+        headers.set("X-Secret-Revision", Long.toString(bundle.getRevision()));
+        return new ResponseEntity<>(bundle.getCompressed(), headers, HttpStatus.OK);
+    }
+
     @PostMapping
     @Operation(summary = "Create project", description = "Create a new project")
     public ResponseEntity<ProjectResponse> createProject(
@@ -1,28 +1,54 @@
 package com.secrets.controller;
 
+import com.secrets.dto.BatchSecretResponse;
+import com.secrets.dto.BulkSecretResponse;
+import com.secrets.dto.SecretChangesResponse;
+import com.secrets.dto.SecretCursorPage;
 import com.secrets.dto.SecretRequest;
 import com.secrets.dto.SecretResponse;
 import com.secrets.dto.SecretVersionResponse;
 import com.secrets.dto.SecretVersionDetailResponse;
+import com.secrets.dto.SecretWatchResponse;
 import com.secrets.entity.Secret;
-import com.secrets.entity.SecretVersion;
+import com.secrets.repository.SecretKeyset;
+import com.secrets.repository.projection.SecretLocation;
+import com.secrets.repository.projection.SecretMetadata;
+import com.secrets.repository.projection.SecretVersionSummary;
+import com.secrets.service.LargeSecretStore;
+import com.secrets.service.PlaintextSecretCache;
 import com.secrets.service.ProjectSecretService;
+import com.secrets.service.SecretWatchService;
 import com.secrets.util.EncryptionUtil;
+import com.secrets.util.SecretImportParser;
 import com.secrets.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -36,17 +62,32 @@ public class ProjectSecretController {
     private final ProjectSecretService projectSecretService;
     private final EncryptionUtil encryptionUtil;
     private final UserService userService;
+    private final PlaintextSecretCache plaintextSecretCache;
+    private final LargeSecretStore largeSecretStore;
+    private final SecretImportParser secretImportParser;
+    private final SecretWatchService secretWatchService;
 
     public ProjectSecretController(ProjectSecretService projectSecretService,
                                   EncryptionUtil encryptionUtil,
-                                  UserService userService) {
+                                  UserService userService,
+                                  PlaintextSecretCache plaintextSecretCache,
+                                  LargeSecretStore largeSecretStore,
+                                  SecretImportParser secretImportParser,
+                                  SecretWatchService secretWatchService) {
         this.projectSecretService = projectSecretService;
         this.encryptionUtil = encryptionUtil;
         this.userService = userService;
+        this.plaintextSecretCache = plaintextSecretCache;
+        this.largeSecretStore = largeSecretStore;
+        this.secretImportParser = secretImportParser;
+        this.secretWatchService = secretWatchService;
     }
 
     @GetMapping
-    @Operation(summary = "List project secrets", description = "Get all secrets in a project")
+    @Operation(summary = "List project secrets",
+        description = "Get all secrets in a project. With includeValues=false only metadata is returned and " +
+            "values are neither loaded nor decrypted; fetch them per key on demand. Responses carry an ETag of " +
+            "the project's secret revision; send it as If-None-Match to get 304 while nothing changed.")
     public ResponseEntity<Page<SecretResponse>> listProjectSecrets(
             @PathVariable UUID projectId,
             @RequestParam(required = false) String keyword,
@@ -54,36 +95,36 @@ public class ProjectSecretController {
             @RequestParam(required = false, defaultValue = "20") int size,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
             @RequestParam(required = false, defaultValue = "DESC") String sortDir,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @RequestParam(required = false, defaultValue = "true") boolean includeValues,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
         UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        // Unchanged project: answer 304 before querying or decrypting anything
+        if (webRequest.checkNotModified(revisionEtag(projectSecretService.getSecretRevision(projectId, userId)))) {
+            return null;
+        }
         
         Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
+
+        if (!includeValues) {
+            // Creator and current version come with the metadata; no per-row queries
+            Page<SecretMetadata> metadata = projectSecretService.listProjectSecretMetadata(projectId, userId, keyword, pageable);
+            return ResponseEntity.ok(metadata.map(SecretResponse::from));
+        }
         
         Page<Secret> secrets = projectSecretService.listProjectSecrets(projectId, userId, keyword, pageable);
         
-        // Fetch version numbers for all secrets in the page (within transaction)
-        java.util.Map<UUID, Integer> versionMap = new java.util.HashMap<>();
-        if (secrets.hasContent()) {
-            java.util.List<UUID> secretIds = secrets.getContent().stream()
-                .map(Secret::getId)
-                .filter(id -> id != null)
-                .collect(java.util.stream.Collectors.toList());
-            if (!secretIds.isEmpty()) {
-                versionMap = projectSecretService.getMaxVersionNumbersForSecrets(secretIds);
-            }
+        // Decrypt the whole page on the bounded decrypt pool; order matches the page
+        List<String> decryptedValues = encryptionUtil.decryptSecretValues(secrets.getContent());
+        List<SecretResponse> content = new java.util.ArrayList<>(decryptedValues.size());
+        for (int i = 0; i < decryptedValues.size(); i++) {
+            // Version comes from the secret's current_version counter; no extra query
+            content.add(SecretResponse.from(secrets.getContent().get(i), decryptedValues.get(i)));
         }
         
-        final java.util.Map<UUID, Integer> finalVersionMap = versionMap;
-        Page<SecretResponse> responses = secrets.map(secret -> {
-            String decryptedValue = encryptionUtil.decryptSecretValue(secret);
-            SecretResponse response = SecretResponse.from(secret, decryptedValue);
-            // Set version number from the map
-            response.setVersion(finalVersionMap.get(secret.getId()));
-            return response;
-        });
-        
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(new PageImpl<>(content, secrets.getPageable(), secrets.getTotalElements()));
     }
 
     @GetMapping("/{key}")
@@ -91,15 +132,239 @@ public class ProjectSecretController {
     public ResponseEntity<SecretResponse> getProjectSecret(
             @PathVariable UUID projectId,
             @PathVariable String key,
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
         UUID userId = userService.getCurrentUserId(userDetails.getUsername());
         
         Secret secret = projectSecretService.getProjectSecret(projectId, key, userId);
-        String decryptedValue = encryptionUtil.decryptSecretValue(secret);
+        // Every write moves updatedAt, so an unchanged secret is answered without decrypting
+        if (webRequest.checkNotModified(secretEtag(secret))) {
+            return null;
+        }
+        String decryptedValue = plaintextSecretCache.decrypt(secret);
         
         return ResponseEntity.ok(SecretResponse.from(secret, decryptedValue));
     }
 
+    @GetMapping(params = "cursor")
+    @Operation(summary = "List project secrets by cursor",
+        description = "Keyset pagination over (sortBy, id). Pass an empty cursor for the first page and the returned " +
+            "nextCursor for the following ones. sortBy is createdAt, updatedAt or secretKey. No COUNT query runs " +
+            "unless includeTotal=true.")
+    public ResponseEntity<SecretCursorPage> listProjectSecretsByCursor(
+            @PathVariable UUID projectId,
+            @RequestParam String cursor,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false, defaultValue = "DESC") String sortDir,
+            @RequestParam(required = false, defaultValue = "true") boolean includeValues,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        if (webRequest.checkNotModified(revisionEtag(projectSecretService.getSecretRevision(projectId, userId)))) {
+            return null;
+        }
+
+        SecretKeyset.SortField sortField = SecretKeyset.SortField.fromProperty(sortBy);
+        boolean ascending = Sort.Direction.fromString(sortDir).isAscending();
+        SecretKeyset keyset = cursor.isEmpty()
+            ? SecretKeyset.first(sortField, ascending)
+            : SecretKeyset.fromToken(cursor, sortField, ascending);
+
+        List<SecretResponse> content;
+        SecretKeyset next = null;
+        if (!includeValues) {
+            List<SecretMetadata> rows = projectSecretService.scrollProjectSecretMetadata(projectId, userId, keyword, keyset, size);
+            if (rows.size() > size) {
+                rows = rows.subList(0, size);
+                next = keyset.after(rows.get(size - 1));
+            }
+            content = rows.stream().map(SecretResponse::from).collect(Collectors.toList());
+        } else {
+            List<Secret> rows = projectSecretService.scrollProjectSecrets(projectId, userId, keyword, keyset, size);
+            if (rows.size() > size) {
+                rows = rows.subList(0, size);
+                next = keyset.after(rows.get(size - 1));
+            }
+            List<String> decryptedValues = encryptionUtil.decryptSecretValues(rows);
+            content = new java.util.ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                content.add(SecretResponse.from(rows.get(i), decryptedValues.get(i)));
+            }
+        }
+
+        return ResponseEntity.ok(SecretCursorPage.builder()
+            .content(content)
+            .nextCursor(next != null ? next.toToken() : null)
+            .totalElements(includeTotal ? projectSecretService.countProjectSecrets(projectId, keyword, userId) : null)
+            .build());
+    }
+
+    @GetMapping(params = "search")
+    @Operation(summary = "Search project secrets",
+        description = "Ranked search over secret keys and descriptions using trigram indexes. Returns metadata " +
+            "only, most relevant first; tolerates small typos in keys.")
+    public ResponseEntity<List<SecretResponse>> searchProjectSecrets(
+            @PathVariable UUID projectId,
+            @RequestParam String search,
+            @RequestParam(required = false, defaultValue = "20") int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        List<SecretMetadata> matches = projectSecretService.searchProjectSecretMetadata(projectId, userId, search, size);
+        return ResponseEntity.ok(matches.stream().map(SecretResponse::from).collect(Collectors.toList()));
+    }
+
+    @GetMapping(params = "suggest")
+    @Operation(summary = "Suggest secret keys",
+        description = "Typeahead suggestions from an in-memory key index: keys starting with the query first, " +
+            "then keys containing it, case-insensitive")
+    public ResponseEntity<List<String>> suggestSecretKeys(
+            @PathVariable UUID projectId,
+            @RequestParam String suggest,
+            @RequestParam(required = false, defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        return ResponseEntity.ok(projectSecretService.suggestSecretKeys(projectId, userId, suggest, limit));
+    }
+
+    @GetMapping(params = "watch")
+    @Operation(summary = "Watch project secrets",
+        description = "Long poll: pass the last secret revision seen (the number in the list ETag) as watch. " +
+            "Returns as soon as a change is committed with the new revision, or after timeoutSeconds " +
+            "with changed=false.")
+    public DeferredResult<SecretWatchResponse> watchProjectSecrets(
+            @PathVariable UUID projectId,
+            @RequestParam long watch,
+            @RequestParam(required = false, defaultValue = "30") long timeoutSeconds,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        return secretWatchService.watch(projectId, watch, Duration.ofSeconds(timeoutSeconds), userId);
+    }
+
+    @GetMapping(params = "since")
+    @Operation(summary = "Get project secret changes",
+        description = "Delta sync: secrets changed and keys deleted after the given revision (the number in the " +
+            "list ETag), with the revision to pass next time. Changed secrets come in pages of at most the " +
+            "listing page size; when hasMore is true, call again at once with the returned revision. When " +
+            "resyncRequired is true the client is too far behind and must reload the project, e.g. through /projects/{id}/export.")
+    public ResponseEntity<SecretChangesResponse> getProjectSecretChanges(
+            @PathVariable UUID projectId,
+            @RequestParam long since,
+            @AuthenticationPrincipal UserDetails userDetails,
+            WebRequest webRequest) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        if (webRequest.checkNotModified(revisionEtag(projectSecretService.getSecretRevision(projectId, userId)))) {
+            return null;
+        }
+
+        ProjectSecretService.SecretChanges changes = projectSecretService.getSecretChanges(projectId, userId, since);
+        List<Secret> secrets = changes.getChanged();
+        List<String> decryptedValues = encryptionUtil.decryptSecretValues(secrets);
+        List<SecretResponse> changed = new java.util.ArrayList<>(secrets.size());
+        for (int i = 0; i < secrets.size(); i++) {
+            changed.add(SecretResponse.from(secrets.get(i), decryptedValues.get(i)));
+        }
+
+        return ResponseEntity.ok(SecretChangesResponse.builder()
+            .revision(changes.getRevision())
+            .resyncRequired(changes.isResyncRequired())
+            .hasMore(changes.isHasMore())
+            .changed(changed)
+            .deleted(changes.getDeletedKeys())
+            .build());
+    }
+
+    @PostMapping("/batch-get")
+    @Operation(summary = "Get many project secrets",
+        description = "Fetch the decrypted values of many secrets in one request. Results keep the order of the " +
+            "requested keys; keys that do not exist are listed under missing.")
+    public ResponseEntity<BatchSecretResponse> batchGetProjectSecrets(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BatchGetSecretsRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        java.util.Set<String> keys = new java.util.LinkedHashSet<>(request.getKeys());
+        java.util.Map<String, Secret> found = projectSecretService.getProjectSecrets(projectId, keys, userId).stream()
+            .collect(Collectors.toMap(Secret::getSecretKey, secret -> secret));
+
+        List<Secret> secrets = new java.util.ArrayList<>(found.size());
+        List<String> missing = new java.util.ArrayList<>();
+        for (String key : keys) {
+            Secret secret = found.get(key);
+            if (secret != null) {
+                secrets.add(secret);
+            } else {
+                missing.add(key);
+            }
+        }
+
+        List<String> decryptedValues = encryptionUtil.decryptSecretValues(secrets);
+        List<SecretResponse> content = new java.util.ArrayList<>(secrets.size());
+        for (int i = 0; i < secrets.size(); i++) {
+            content.add(SecretResponse.from(secrets.get(i), decryptedValues.get(i)));
+        }
+
+        return ResponseEntity.ok(BatchSecretResponse.builder()
+            .secrets(content)
+            .missing(missing)
+            .build());
+    }
+
+    @GetMapping(value = "/{key}/content", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Download secret value",
+        description = "Stream a secret's raw value. Large values are decrypted and decompressed chunk by chunk.")
+    public ResponseEntity<StreamingResponseBody> downloadProjectSecretContent(
+            @PathVariable UUID projectId,
+            @PathVariable String key,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        Secret secret = projectSecretService.getProjectSecret(projectId, key, userId);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(key).build());
+        headers.setCacheControl(CacheControl.noStore());
+
+        if (!secret.isLargeValue()) {
+            byte[] value = plaintextSecretCache.decrypt(secret).getBytes(StandardCharsets.UTF_8);
+            headers.setContentLength(value.length);
+            StreamingResponseBody body = out -> out.write(value);
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
+        }
+
+        UUID blobId = secret.getBlobId();
+        headers.setContentLength(secret.getValueSize());
+        StreamingResponseBody body = out -> largeSecretStore.read(blobId, out);
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+
+    @PutMapping(value = "/{key}/content", consumes = MediaType.ALL_VALUE)
+    @Operation(summary = "Upload large secret value",
+        description = "Create or replace a secret from the raw request body (e.g. a certificate, kubeconfig or " +
+            "service-account file). The value is compressed and stored in encrypted chunks; the size limit is " +
+            "app.large-values.max-size. Send the body as application/octet-stream.")
+    public ResponseEntity<SecretResponse> uploadProjectSecretContent(
+            @PathVariable UUID projectId,
+            @PathVariable String key,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String expiresAt,
+            InputStream content,
+            @AuthenticationPrincipal UserDetails userDetails) throws IOException {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        Secret secret = projectSecretService.writeLargeProjectSecret(projectId, key, content, description, expiresAt, userId);
+
+        return ResponseEntity.ok(SecretResponse.from(secret, null));
+    }
+
     @PostMapping
     @Operation(summary = "Create project secret", description = "Create a new secret in a project")
     public ResponseEntity<SecretResponse> createProjectSecret(
@@ -115,6 +380,47 @@ public class ProjectSecretController {
             .body(SecretResponse.from(secret, decryptedValue));
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Bulk import project secrets (JSON)",
+        description = "Create many secrets from a JSON array of secret requests. Existing keys and invalid " +
+            "items are reported per key in the response and do not stop the import.")
+    public ResponseEntity<BulkSecretResponse> bulkImportJson(
+            @PathVariable UUID projectId,
+            @RequestBody List<SecretRequest> requests,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        return ResponseEntity.ok(projectSecretService.bulkCreateProjectSecrets(projectId, requests, List.of(), userId));
+    }
+
+    @PostMapping(value = "/bulk", consumes = { MediaType.TEXT_PLAIN_VALUE, "text/x-dotenv" })
+    @Operation(summary = "Bulk import project secrets (.env)",
+        description = "Create many secrets from a .env file (KEY=value per line)")
+    public ResponseEntity<BulkSecretResponse> bulkImportDotenv(
+            @PathVariable UUID projectId,
+            @RequestBody String content,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        SecretImportParser.ParsedImport parsed = secretImportParser.parseDotenv(content);
+        return ResponseEntity.ok(projectSecretService.bulkCreateProjectSecrets(
+            projectId, parsed.getRequests(), parsed.getErrors(), userId));
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Bulk import project secrets (NDJSON)",
+        description = "Create many secrets from newline-delimited JSON, one secret request per line")
+    public ResponseEntity<BulkSecretResponse> bulkImportNdjson(
+            @PathVariable UUID projectId,
+            @RequestBody String content,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        SecretImportParser.ParsedImport parsed = secretImportParser.parseNdjson(content);
+        return ResponseEntity.ok(projectSecretService.bulkCreateProjectSecrets(
+            projectId, parsed.getRequests(), parsed.getErrors(), userId));
+    }
+
     @PutMapping("/{key}")
     @Operation(summary = "Update project secret", description = "Update a secret in a project")
     public ResponseEntity<SecretResponse> updateProjectSecret(
@@ -186,20 +492,70 @@ public class ProjectSecretController {
         return ResponseEntity.ok(SecretResponse.from(secret, decryptedValue));
     }
 
+    @PostMapping("/bulk-move")
+    @Operation(summary = "Bulk move secrets",
+        description = "Move many secrets to another project in one transaction. Keys that do not exist or already " +
+            "exist in the target project are reported per key and do not stop the rest.")
+    public ResponseEntity<BulkSecretResponse> bulkMoveSecrets(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkTransferSecretsRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        return ResponseEntity.ok(projectSecretService.bulkMoveSecrets(
+            projectId, request.getKeys(), request.getTargetProjectId(), userId));
+    }
+
+    @PostMapping("/bulk-copy")
+    @Operation(summary = "Bulk copy secrets",
+        description = "Copy many secrets to another project under the same keys, reusing the stored ciphertext. " +
+            "Keys that do not exist or already exist in the target project are reported per key.")
+    public ResponseEntity<BulkSecretResponse> bulkCopySecrets(
+            @PathVariable UUID projectId,
+            @Valid @RequestBody BulkTransferSecretsRequest request,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        return ResponseEntity.ok(projectSecretService.bulkCopySecrets(
+            projectId, request.getKeys(), request.getTargetProjectId(), userId));
+    }
+
+    @GetMapping("/{key}/same-value")
+    @Operation(summary = "Find secrets with the same value",
+        description = "Secrets in other projects you can view (or under other keys) that hold the same value, " +
+            "found by keyed fingerprint without decrypting anything")
+    public ResponseEntity<List<SecretLocation>> findSecretsWithSameValue(
+            @PathVariable UUID projectId,
+            @PathVariable String key,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        UUID userId = userService.getCurrentUserId(userDetails.getUsername());
+
+        return ResponseEntity.ok(projectSecretService.findSecretsWithSameValue(projectId, key, userId));
+    }
+
     @GetMapping("/{key}/versions")
-    @Operation(summary = "Get secret versions", description = "Get version history for a secret")
+    @Operation(summary = "Get secret versions",
+        description = "Version history for a secret, newest first, in pages of size. When more versions exist the " +
+            "X-Next-Before header holds the value to pass as before for the next page.")
     public ResponseEntity<List<SecretVersionResponse>> getSecretVersions(
             @PathVariable UUID projectId,
             @PathVariable String key,
+            @RequestParam(required = false) Integer before,
+            @RequestParam(required = false, defaultValue = "50") int size,
             @AuthenticationPrincipal UserDetails userDetails) {
         UUID userId = userService.getCurrentUserId(userDetails.getUsername());
         
-        List<SecretVersion> versions = projectSecretService.getSecretVersions(projectId, key, userId);
+        List<SecretVersionSummary> versions = projectSecretService.getSecretVersions(projectId, key, userId, before, size);
+        HttpHeaders headers = new HttpHeaders();
+        if (versions.size() > size) {
+            versions = versions.subList(0, size);
+            headers.set("X-Next-Before", versions.get(size - 1).getVersionNumber().toString());
+        }
         List<SecretVersionResponse> responses = versions.stream()
-            .map(this::toVersionResponse)
+            .map(version -> SecretVersionResponse.from(version, key))
             .collect(Collectors.toList());
         
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok().headers(headers).body(responses);
     }
 
     @GetMapping("/{key}/versions/{versionNumber}")
@@ -212,7 +568,7 @@ public class ProjectSecretController {
         UUID userId = userService.getCurrentUserId(userDetails.getUsername());
 
         var version = projectSecretService.getSecretVersion(projectId, key, versionNumber, userId);
-        String decryptedValue = encryptionUtil.decrypt(version.getEncryptedValue());
+        String decryptedValue = encryptionUtil.decryptVersionValue(version);
 
         return ResponseEntity.ok(SecretVersionDetailResponse.from(version, decryptedValue));
     }
@@ -232,8 +588,26 @@ public class ProjectSecretController {
         return ResponseEntity.ok(SecretResponse.from(secret, decryptedValue));
     }
 
-    private SecretVersionResponse toVersionResponse(SecretVersion version) {
-        return SecretVersionResponse.from(version);
+    private static String revisionEtag(long revision) {
+        return "r" + revision;
+    }
+
+    private static String secretEtag(Secret secret) {
+        java.time.LocalDateTime updatedAt = secret.getUpdatedAt();
+        return "s" + secret.getId() + "-" + (updatedAt != null ? updatedAt.toString() : "0");
+    }
+
+    public static class BatchGetSecretsRequest {
+        @NotEmpty(message = "At least one key is required")
+        private List<String> keys;
+
+        public List<String> getKeys() {
+            return keys;
+        }
+
+        public void setKeys(List<String> keys) {
+            this.keys = keys;
+        }
     }
 
     // DTOs for move/copy requests
@@ -269,5 +643,28 @@ public class ProjectSecretController {
             this.newKey = newKey;
         }
     }
-}
 
+    public static class BulkTransferSecretsRequest {
+        @NotNull(message = "Target project is required")
+        private UUID targetProjectId;
+
+        @NotEmpty(message = "At least one key is required")
+        private List<String> keys;
+
+        public UUID getTargetProjectId() {
+            return targetProjectId;
+        }
+
+        public void setTargetProjectId(UUID targetProjectId) {
+            this.targetProjectId = targetProjectId;
+        }
+
+        public List<String> getKeys() {
+            return keys;
+        }
+
+        public void setKeys(List<String> keys) {
+            this.keys = keys;
+        }
+    }
+}
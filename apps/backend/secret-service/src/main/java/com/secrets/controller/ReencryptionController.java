@@ -0,0 +1,59 @@
+package com.secrets.controller;
+
+import com.secrets.dto.ReencryptionStatusResponse;
+import com.secrets.service.DataKeyService;
+import com.secrets.service.SecretReencryptionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/admin/reencryption")
+@Tag(name = "Re-encryption", description = "Key rotation and online re-encryption of stored secrets")
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasRole('ADMIN')")
+public class ReencryptionController {
+
+    private final SecretReencryptionService reencryptionService;
+    private final DataKeyService dataKeyService;
+
+    public ReencryptionController(SecretReencryptionService reencryptionService,
+                                  DataKeyService dataKeyService) {
+        this.reencryptionService = reencryptionService;
+        this.dataKeyService = dataKeyService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Re-encryption status", description = "Progress of the current or last re-encryption pass")
+    public ResponseEntity<ReencryptionStatusResponse> status() {
+        return ResponseEntity.ok(reencryptionService.status());
+    }
+
+    @PostMapping("/start")
+    @Operation(summary = "Start re-encryption", description = "Start or resume re-encrypting secrets and versions")
+    public ResponseEntity<ReencryptionStatusResponse> start() {
+        return ResponseEntity.accepted().body(reencryptionService.start());
+    }
+
+    @PostMapping("/stop")
+    @Operation(summary = "Stop re-encryption", description = "Stop after the current chunk; progress is kept")
+    public ResponseEntity<ReencryptionStatusResponse> stop() {
+        return ResponseEntity.ok(reencryptionService.stop());
+    }
+
+    @PostMapping("/projects/{projectId}/rotate-data-key")
+    @Operation(summary = "Rotate project data key", description = "Create a new data key for a project; run re-encryption afterwards")
+    public ResponseEntity<Map<String, Object>> rotateDataKey(@PathVariable UUID projectId) {
+        DataKeyService.DataKey dataKey = dataKeyService.rotateDataKey(projectId);
+        return ResponseEntity.ok(Map.of(
+            "projectId", projectId.toString(),
+            "dataKeyId", dataKey.getId().toString()
+        ));
+    }
+}
@@ -0,0 +1,55 @@
+package com.secrets.dto;
+
+import java.util.List;
+
+public class BatchSecretResponse {
+    private List<SecretResponse> secrets;
+    private List<String> missing;
+
+    public BatchSecretResponse() {
+    }
+
+    public BatchSecretResponse(List<SecretResponse> secrets, List<String> missing) {
+        this.secrets = secrets;
+        this.missing = missing;
+    }
+
+    public List<SecretResponse> getSecrets() {
+        return secrets;
+    }
+
+    public void setSecrets(List<SecretResponse> secrets) {
+        this.secrets = secrets;
+    }
+
+    public List<String> getMissing() {
+        return missing;
+    }
+
+    public void setMissing(List<String> missing) {
+        this.missing = missing;
+    }
+
+    public static BatchSecretResponseBuilder builder() {
+        return new BatchSecretResponseBuilder();
+    }
+
+    public static class BatchSecretResponseBuilder {
+        private List<SecretResponse> secrets;
+        private List<String> missing;
+
+        public BatchSecretResponseBuilder secrets(List<SecretResponse> secrets) {
+            this.secrets = secrets;
+            return this;
+        }
+
+        public BatchSecretResponseBuilder missing(List<String> missing) {
+            this.missing = missing;
+            return this;
+        }
+
+        public BatchSecretResponse build() {
+            return new BatchSecretResponse(secrets, missing);
+        }
+    }
+}
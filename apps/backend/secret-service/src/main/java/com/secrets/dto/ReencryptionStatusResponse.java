@@ -0,0 +1,107 @@
+package com.secrets.dto;
+
+import com.secrets.entity.ReencryptionCheckpoint;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class ReencryptionStatusResponse {
+
+    private boolean running;
+    private List<TableProgress> tables;
+
+    public ReencryptionStatusResponse() {
+    }
+
+    public ReencryptionStatusResponse(boolean running, List<TableProgress> tables) {
+        this.running = running;
+        this.tables = tables;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public void setRunning(boolean running) {
+        this.running = running;
+    }
+
+    public List<TableProgress> getTables() {
+        return tables;
+    }
+
+    public void setTables(List<TableProgress> tables) {
+        this.tables = tables;
+    }
+
+    public static class TableProgress {
+        private String table;
+        private String lastId;
+        private long scannedRows;
+        private long reencryptedRows;
+        private boolean completed;
+        private LocalDateTime updatedAt;
+
+        public TableProgress() {
+        }
+
+        public static TableProgress from(ReencryptionCheckpoint checkpoint) {
+            TableProgress progress = new TableProgress();
+            progress.setTable(checkpoint.getTableName());
+            progress.setLastId(checkpoint.getLastId() != null ? checkpoint.getLastId().toString() : null);
+            progress.setScannedRows(checkpoint.getScannedRows());
+            progress.setReencryptedRows(checkpoint.getReencryptedRows());
+            progress.setCompleted(checkpoint.getCompleted());
+            progress.setUpdatedAt(checkpoint.getUpdatedAt());
+            return progress;
+        }
+
+        public String getTable() {
+            return table;
+        }
+
+        public void setTable(String table) {
+            this.table = table;
+        }
+
+        public String getLastId() {
+            return lastId;
+        }
+
+        public void setLastId(String lastId) {
+            this.lastId = lastId;
+        }
+
+        public long getScannedRows() {
+            return scannedRows;
+        }
+
+        public void setScannedRows(long scannedRows) {
+            this.scannedRows = scannedRows;
+        }
+
+        public long getReencryptedRows() {
+            return reencryptedRows;
+        }
+
+        public void setReencryptedRows(long reencryptedRows) {
+            this.reencryptedRows = reencryptedRows;
+        }
+
+        public boolean isCompleted() {
+            return completed;
+        }
+
+        public void setCompleted(boolean completed) {
+            this.completed = completed;
+        }
+
+        public LocalDateTime getUpdatedAt() {
+            return updatedAt;
+        }
+
+        public void setUpdatedAt(LocalDateTime updatedAt) {
+            this.updatedAt = updatedAt;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.secrets.dto;
+
+import java.util.List;
+
+/**
+ * Delta sync result: secrets changed and keys deleted since the client's revision, plus the
+ * revision to send next time. When {@code hasMore} is set the client should call again straight
+ * away with that revision. When {@code resyncRequired} is set the lists are empty and the client
+ * must reload the whole project.
+ */
+public class SecretChangesResponse {
+    private long revision;
+    private boolean resyncRequired;
+    private boolean hasMore;
+    private List<SecretResponse> changed;
+    private List<String> deleted;
+
+    public SecretChangesResponse() {
+    }
+
+    public SecretChangesResponse(long revision, boolean resyncRequired, boolean hasMore,
+                                 List<SecretResponse> changed, List<String> deleted) {
+        this.revision = revision;
+        this.resyncRequired = resyncRequired;
+        this.hasMore = hasMore;
+        this.changed = changed;
+        this.deleted = deleted;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public boolean isResyncRequired() {
+        return resyncRequired;
+    }
+
+    public void setResyncRequired(boolean resyncRequired) {
+        this.resyncRequired = resyncRequired;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public List<SecretResponse> getChanged() {
+        return changed;
+    }
+
+    public void setChanged(List<SecretResponse> changed) {
+        this.changed = changed;
+    }
+
+    public List<String> getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(List<String> deleted) {
+        this.deleted = deleted;
+    }
+
+    public static SecretChangesResponseBuilder builder() {
+        return new SecretChangesResponseBuilder();
+    }
+
+    public static class SecretChangesResponseBuilder {
+        private long revision;
+        private boolean resyncRequired;
+        private boolean hasMore;
+        private List<SecretResponse> changed;
+        private List<String> deleted;
+
+        public SecretChangesResponseBuilder revision(long revision) {
+            this.revision = revision;
+            return this;
+        }
+
+        public SecretChangesResponseBuilder resyncRequired(boolean resyncRequired) {
+            this.resyncRequired = resyncRequired;
+            return this;
+        }
+
+        public SecretChangesResponseBuilder hasMore(boolean hasMore) {
+            this.hasMore = hasMore;
+            return this;
+        }
+
+        public SecretChangesResponseBuilder changed(List<SecretResponse> changed) {
+            this.changed = changed;
+            return this;
+        }
+
+        public SecretChangesResponseBuilder deleted(List<String> deleted) {
+            this.deleted = deleted;
+            return this;
+        }
+
+        public SecretChangesResponse build() {
+            return new SecretChangesResponse(revision, resyncRequired, hasMore, changed, deleted);
+        }
+    }
+}
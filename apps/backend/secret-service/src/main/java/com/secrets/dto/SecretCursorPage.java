@@ -0,0 +1,75 @@
+package com.secrets.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated secret listing. {@code nextCursor} is null on the last page;
+ * {@code totalElements} is only filled in when the client asked for it.
+ */
+public class SecretCursorPage {
+    private List<SecretResponse> content;
+    private String nextCursor;
+    private Long totalElements;
+
+    public SecretCursorPage() {
+    }
+
+    public SecretCursorPage(List<SecretResponse> content, String nextCursor, Long totalElements) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.totalElements = totalElements;
+    }
+
+    public List<SecretResponse> getContent() {
+        return content;
+    }
+
+    public void setContent(List<SecretResponse> content) {
+        this.content = content;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public Long getTotalElements() {
+        return totalElements;
+    }
+
+    public void setTotalElements(Long totalElements) {
+        this.totalElements = totalElements;
+    }
+
+    public static SecretCursorPageBuilder builder() {
+        return new SecretCursorPageBuilder();
+    }
+
+    public static class SecretCursorPageBuilder {
+        private List<SecretResponse> content;
+        private String nextCursor;
+        private Long totalElements;
+
+        public SecretCursorPageBuilder content(List<SecretResponse> content) {
+            this.content = content;
+            return this;
+        }
+
+        public SecretCursorPageBuilder nextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+            return this;
+        }
+
+        public SecretCursorPageBuilder totalElements(Long totalElements) {
+            this.totalElements = totalElements;
+            return this;
+        }
+
+        public SecretCursorPage build() {
+            return new SecretCursorPage(content, nextCursor, totalElements);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.secrets.dto;
 
 import com.secrets.entity.Secret;
+import com.secrets.repository.projection.SecretMetadata;
 
 import java.time.LocalDateTime;
 
@@ -9,11 +10,14 @@ public class SecretResponse {
     private String value;
     private String description;
     private String createdBy;
+    private String createdByName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime expiresAt;
     private Boolean expired;
     private Integer version;
+    private Boolean largeValue;
+    private Long valueSize;
 
     public SecretResponse() {
     }
@@ -63,6 +67,14 @@ public class SecretResponse {
         this.createdBy = createdBy;
     }
 
+    public String getCreatedByName() {
+        return createdByName;
+    }
+
+    public void setCreatedByName(String createdByName) {
+        this.createdByName = createdByName;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -103,6 +115,22 @@ public class SecretResponse {
         this.version = version;
     }
 
+    public Boolean getLargeValue() {
+        return largeValue;
+    }
+
+    public void setLargeValue(Boolean largeValue) {
+        this.largeValue = largeValue;
+    }
+
+    public Long getValueSize() {
+        return valueSize;
+    }
+
+    public void setValueSize(Long valueSize) {
+        this.valueSize = valueSize;
+    }
+
     public static SecretResponseBuilder builder() {
         return new SecretResponseBuilder();
     }
@@ -110,25 +138,56 @@ public class SecretResponse {
     public static SecretResponse from(Secret secret, String decryptedValue) {
         // Get createdBy as string (email if creator is loaded, otherwise UUID string)
         String createdByStr = "Unknown";
+        String createdByName = null;
         if (secret.getCreator() != null) {
             createdByStr = secret.getCreator().getEmail();
+            createdByName = secret.getCreator().getDisplayName();
         } else if (secret.getCreatedBy() != null) {
             createdByStr = secret.getCreatedBy().toString();
         }
         
-        // Version number will be set separately by the controller/service layer
-        // Do NOT access secret.getVersions() here as it's lazy-loaded and will cause LazyInitializationException
-        
+        // Version comes from the secret's counter; do NOT access secret.getVersions() here as it's
+        // lazy-loaded and will cause LazyInitializationException
+
         return SecretResponse.builder()
             .key(secret.getSecretKey())
             .value(decryptedValue)
             .description(secret.getDescription())
             .createdBy(createdByStr)
+            .createdByName(createdByName)
             .createdAt(secret.getCreatedAt())
             .updatedAt(secret.getUpdatedAt())
             .expiresAt(secret.getExpiresAt())
             .expired(secret.isExpired())
-            .version(null) // Will be set by controller/service
+            .version(secret.getCurrentVersion())
+            .largeValue(secret.isLargeValue())
+            .valueSize(secret.getValueSize())
+            .build();
+    }
+
+    /**
+     * Metadata-only response, version included; value is left null and fetched per key on demand
+     */
+    public static SecretResponse from(SecretMetadata metadata) {
+        String createdByStr = "Unknown";
+        if (metadata.getCreatorEmail() != null) {
+            createdByStr = metadata.getCreatorEmail();
+        } else if (metadata.getCreatedBy() != null) {
+            createdByStr = metadata.getCreatedBy().toString();
+        }
+
+        return SecretResponse.builder()
+            .key(metadata.getSecretKey())
+            .description(metadata.getDescription())
+            .createdBy(createdByStr)
+            .createdByName(metadata.getCreatorDisplayName())
+            .createdAt(metadata.getCreatedAt())
+            .updatedAt(metadata.getUpdatedAt())
+            .expiresAt(metadata.getExpiresAt())
+            .expired(metadata.isExpired())
+            .version(metadata.getCurrentVersion())
+            .largeValue(metadata.getValueSize() != null)
+            .valueSize(metadata.getValueSize())
             .build();
     }
 
@@ -137,11 +196,14 @@ public class SecretResponse {
         private String value;
         private String description;
         private String createdBy;
+        private String createdByName;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
         private LocalDateTime expiresAt;
         private Boolean expired;
         private Integer version;
+        private Boolean largeValue;
+        private Long valueSize;
 
         public SecretResponseBuilder key(String key) {
             this.key = key;
@@ -163,6 +225,11 @@ public class SecretResponse {
             return this;
         }
 
+        public SecretResponseBuilder createdByName(String createdByName) {
+            this.createdByName = createdByName;
+            return this;
+        }
+
         public SecretResponseBuilder createdAt(LocalDateTime createdAt) {
             this.createdAt = createdAt;
             return this;
@@ -188,8 +255,23 @@ public class SecretResponse {
             return this;
         }
 
+        public SecretResponseBuilder largeValue(Boolean largeValue) {
+            this.largeValue = largeValue;
+            return this;
+        }
+
+        public SecretResponseBuilder valueSize(Long valueSize) {
+            this.valueSize = valueSize;
+            return this;
+        }
+
         public SecretResponse build() {
-            return new SecretResponse(key, value, description, createdBy, createdAt, updatedAt, expiresAt, expired, version);
+            SecretResponse response = new SecretResponse(key, value, description, createdBy, createdAt, updatedAt,
+                expiresAt, expired, version);
+            response.setCreatedByName(createdByName);
+            response.setLargeValue(largeValue);
+            response.setValueSize(valueSize);
+            return response;
         }
     }
 }
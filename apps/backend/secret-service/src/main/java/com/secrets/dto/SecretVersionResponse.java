@@ -1,6 +1,7 @@
 package com.secrets.dto;
 
 import com.secrets.entity.SecretVersion;
+import com.secrets.repository.projection.SecretVersionSummary;
 
 import java.time.LocalDateTime;
 
@@ -88,6 +89,17 @@ public class SecretVersionResponse {
                 .build();
     }
 
+    public static SecretVersionResponse from(SecretVersionSummary version, String secretKey) {
+        return SecretVersionResponse.builder()
+                .id(version.getId() != null ? version.getId().toString() : null)
+                .secretKey(secretKey)
+                .versionNumber(version.getVersionNumber())
+                .changedBy(version.getCreatedBy() != null ? version.getCreatedBy().toString() : "Unknown")
+                .changeDescription(version.getChangeNote() != null ? version.getChangeNote() : "")
+                .createdAt(version.getCreatedAt())
+                .build();
+    }
+
     public static class SecretVersionResponseBuilder {
         private String id;
         private String secretKey;
@@ -0,0 +1,57 @@
+package com.secrets.dto;
+
+/**
+ * Outcome of a long-poll watch: the project's current secret revision and whether it moved
+ * past the revision the client already had.
+ */
+public class SecretWatchResponse {
+    private long revision;
+    private boolean changed;
+
+    public SecretWatchResponse() {
+    }
+
+    public SecretWatchResponse(long revision, boolean changed) {
+        this.revision = revision;
+        this.changed = changed;
+    }
+
+    public long getRevision() {
+        return revision;
+    }
+
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public void setChanged(boolean changed) {
+        this.changed = changed;
+    }
+
+    public static SecretWatchResponseBuilder builder() {
+        return new SecretWatchResponseBuilder();
+    }
+
+    public static class SecretWatchResponseBuilder {
+        private long revision;
+        private boolean changed;
+
+        public SecretWatchResponseBuilder revision(long revision) {
+            this.revision = revision;
+            return this;
+        }
+
+        public SecretWatchResponseBuilder changed(boolean changed) {
+            this.changed = changed;
+            return this;
+        }
+
+        public SecretWatchResponse build() {
+            return new SecretWatchResponse(revision, changed);
+        }
+    }
+}
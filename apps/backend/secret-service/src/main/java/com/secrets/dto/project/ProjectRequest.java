@@ -1,5 +1,6 @@
 package com.secrets.dto.project;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
@@ -16,6 +17,15 @@ public class ProjectRequest {
     
     private UUID workflowId; // Optional: which workflow to add it to
 
+    private Boolean plaintextCacheEnabled; // Optional: null leaves the setting unchanged
+
+    // Optional: null leaves the setting unchanged, 0 removes the limit
+    @Min(value = 0, message = "Version retention count must not be negative")
+    private Integer versionRetentionCount;
+
+    @Min(value = 0, message = "Version retention days must not be negative")
+    private Integer versionRetentionDays;
+
     public ProjectRequest() {
     }
 
@@ -42,5 +52,29 @@ public class ProjectRequest {
     public void setWorkflowId(UUID workflowId) {
         this.workflowId = workflowId;
     }
+
+    public Boolean getPlaintextCacheEnabled() {
+        return plaintextCacheEnabled;
+    }
+
+    public void setPlaintextCacheEnabled(Boolean plaintextCacheEnabled) {
+        this.plaintextCacheEnabled = plaintextCacheEnabled;
+    }
+
+    public Integer getVersionRetentionCount() {
+        return versionRetentionCount;
+    }
+
+    public void setVersionRetentionCount(Integer versionRetentionCount) {
+        this.versionRetentionCount = versionRetentionCount;
+    }
+
+    public Integer getVersionRetentionDays() {
+        return versionRetentionDays;
+    }
+
+    public void setVersionRetentionDays(Integer versionRetentionDays) {
+        this.versionRetentionDays = versionRetentionDays;
+    }
 }
 
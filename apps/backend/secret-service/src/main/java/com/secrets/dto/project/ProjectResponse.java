@@ -16,6 +16,9 @@ public class ProjectResponse {
     private LocalDateTime deletedAt;
     private UUID deletedBy;
     private LocalDateTime scheduledPermanentDeleteAt;
+    private Boolean plaintextCacheEnabled;
+    private Integer versionRetentionCount;
+    private Integer versionRetentionDays;
     
     // Computed fields
     private Long secretCount;
@@ -66,6 +69,9 @@ public class ProjectResponse {
         response.setDeletedAt(project.getDeletedAt());
         response.setDeletedBy(project.getDeletedBy());
         response.setScheduledPermanentDeleteAt(project.getScheduledPermanentDeleteAt());
+        response.setPlaintextCacheEnabled(project.getPlaintextCacheEnabled());
+        response.setVersionRetentionCount(project.getVersionRetentionCount());
+        response.setVersionRetentionDays(project.getVersionRetentionDays());
         return response;
     }
 
@@ -126,6 +132,30 @@ public class ProjectResponse {
         this.isArchived = isArchived;
     }
 
+    public Boolean getPlaintextCacheEnabled() {
+        return plaintextCacheEnabled;
+    }
+
+    public void setPlaintextCacheEnabled(Boolean plaintextCacheEnabled) {
+        this.plaintextCacheEnabled = plaintextCacheEnabled;
+    }
+
+    public Integer getVersionRetentionCount() {
+        return versionRetentionCount;
+    }
+
+    public void setVersionRetentionCount(Integer versionRetentionCount) {
+        this.versionRetentionCount = versionRetentionCount;
+    }
+
+    public Integer getVersionRetentionDays() {
+        return versionRetentionDays;
+    }
+
+    public void setVersionRetentionDays(Integer versionRetentionDays) {
+        this.versionRetentionDays = versionRetentionDays;
+    }
+
     public LocalDateTime getDeletedAt() {
         return deletedAt;
     }
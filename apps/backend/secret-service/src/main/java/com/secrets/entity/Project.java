@@ -56,6 +56,28 @@ public class Project {
     @Column(name = "scheduled_permanent_delete_at")
     private LocalDateTime scheduledPermanentDeleteAt;
 
+    // Opt-in: keep decrypted values of hot secrets in the off-heap plaintext cache
+    @Column(name = "plaintext_cache_enabled", nullable = false)
+    private Boolean plaintextCacheEnabled = false;
+
+    // Version retention (SecretVersionRetentionService); null means no limit. A version is pruned
+    // only once it is outside every configured limit, and the current version is always kept.
+    @Column(name = "version_retention_count")
+    private Integer versionRetentionCount;
+
+    @Column(name = "version_retention_days")
+    private Integer versionRetentionDays;
+
+    // Bumped by every secret mutation (SecretRevisionService); never written through the entity
+    @Column(name = "secret_revision", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long secretRevision;
+
+    // Oldest revision delta sync can start from; raised when tombstones are compacted away
+    @Column(name = "secret_changes_floor", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long secretChangesFloor;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProjectMembership> memberships = new ArrayList<>();
 
@@ -133,6 +155,38 @@ public class Project {
         this.isArchived = isArchived;
     }
 
+    public Boolean getPlaintextCacheEnabled() {
+        return plaintextCacheEnabled;
+    }
+
+    public void setPlaintextCacheEnabled(Boolean plaintextCacheEnabled) {
+        this.plaintextCacheEnabled = plaintextCacheEnabled;
+    }
+
+    public Integer getVersionRetentionCount() {
+        return versionRetentionCount;
+    }
+
+    public void setVersionRetentionCount(Integer versionRetentionCount) {
+        this.versionRetentionCount = versionRetentionCount;
+    }
+
+    public Integer getVersionRetentionDays() {
+        return versionRetentionDays;
+    }
+
+    public void setVersionRetentionDays(Integer versionRetentionDays) {
+        this.versionRetentionDays = versionRetentionDays;
+    }
+
+    public Long getSecretRevision() {
+        return secretRevision;
+    }
+
+    public Long getSecretChangesFloor() {
+        return secretChangesFloor;
+    }
+
     public LocalDateTime getDeletedAt() {
         return deletedAt;
     }
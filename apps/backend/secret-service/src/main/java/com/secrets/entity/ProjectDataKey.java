@@ -0,0 +1,107 @@
+package com.secrets.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-project data encryption key, stored wrapped by a versioned master key.
+ * Ciphertexts reference the key by id, so rows are kept even after a secret moves to
+ * another project.
+ */
+@Entity
+@Table(name = "project_data_keys", indexes = {
+    @Index(name = "idx_project_data_keys_project", columnList = "projectId"),
+    @Index(name = "idx_project_data_keys_master_version", columnList = "masterKeyVersion")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class ProjectDataKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "wrapped_key", nullable = false, columnDefinition = "TEXT")
+    private String wrappedKey;
+
+    @Column(name = "master_key_version", nullable = false)
+    private Integer masterKeyVersion;
+
+    @Column(name = "active", nullable = false)
+    private Boolean active = true;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ProjectDataKey() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getWrappedKey() {
+        return wrappedKey;
+    }
+
+    public void setWrappedKey(String wrappedKey) {
+        this.wrappedKey = wrappedKey;
+    }
+
+    public Integer getMasterKeyVersion() {
+        return masterKeyVersion;
+    }
+
+    public void setMasterKeyVersion(Integer masterKeyVersion) {
+        this.masterKeyVersion = masterKeyVersion;
+    }
+
+    public Boolean getActive() {
+        return active;
+    }
+
+    public void setActive(Boolean active) {
+        this.active = active;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,94 @@
+package com.secrets.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of the re-encryption job for one table, so a restarted job resumes after the
+ * last committed row instead of starting over.
+ */
+@Entity
+@Table(name = "reencryption_checkpoints")
+@EntityListeners(AuditingEntityListener.class)
+public class ReencryptionCheckpoint {
+
+    @Id
+    @Column(name = "table_name", length = 64)
+    private String tableName;
+
+    @Column(name = "last_id")
+    private UUID lastId;
+
+    @Column(name = "scanned_rows", nullable = false)
+    private Long scannedRows = 0L;
+
+    @Column(name = "reencrypted_rows", nullable = false)
+    private Long reencryptedRows = 0L;
+
+    @Column(name = "completed", nullable = false)
+    private Boolean completed = false;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ReencryptionCheckpoint() {
+    }
+
+    public ReencryptionCheckpoint(String tableName) {
+        this.tableName = tableName;
+    }
+
+    // Getters and Setters
+    public String getTableName() {
+        return tableName;
+    }
+
+    public void setTableName(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public UUID getLastId() {
+        return lastId;
+    }
+
+    public void setLastId(UUID lastId) {
+        this.lastId = lastId;
+    }
+
+    public Long getScannedRows() {
+        return scannedRows;
+    }
+
+    public void setScannedRows(Long scannedRows) {
+        this.scannedRows = scannedRows;
+    }
+
+    public Long getReencryptedRows() {
+        return reencryptedRows;
+    }
+
+    public void setReencryptedRows(Long reencryptedRows) {
+        this.reencryptedRows = reencryptedRows;
+    }
+
+    public Boolean getCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(Boolean completed) {
+        this.completed = completed;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
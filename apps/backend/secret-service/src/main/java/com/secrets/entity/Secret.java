@@ -36,9 +36,33 @@ public class Secret {
     @Column(name = "secret_key", nullable = false, length = 255)
     private String secretKey;
 
-    @Column(name = "encrypted_value", nullable = false, columnDefinition = "TEXT")
+    // Framed binary ciphertext (see CiphertextFormat)
+    @Column(name = "encrypted_payload")
+    private byte[] encryptedPayload;
+
+    // Legacy Base64 ciphertext; only set on rows the bytea backfill has not reached yet
+    @Column(name = "encrypted_value", columnDefinition = "TEXT")
     private String encryptedValue;
 
+    // Large values live in secret_blobs instead of the ciphertext columns above
+    @Column(name = "blob_id")
+    private UUID blobId;
+
+    // Plaintext size in bytes of a large value
+    @Column(name = "value_size")
+    private Long valueSize;
+
+    // Keyed HMAC of the plaintext (SecretFingerprintService); null for large values and rows
+    // written before fingerprints existed
+    @Column(name = "value_fingerprint")
+    private byte[] valueFingerprint;
+
+    // Highest version number handed out; advanced by SecretVersionService, never through the entity.
+    // Every new secret gets version 1 straight away.
+    @Column(name = "current_version", nullable = false, updatable = false,
+            columnDefinition = "INTEGER NOT NULL DEFAULT 0")
+    private Integer currentVersion = 1;
+
     @Column(columnDefinition = "TEXT")
     private String description;
 
@@ -127,6 +151,72 @@ public class Secret {
         this.encryptedValue = encryptedValue;
     }
 
+    public byte[] getEncryptedPayload() {
+        return encryptedPayload;
+    }
+
+    public void setEncryptedPayload(byte[] encryptedPayload) {
+        this.encryptedPayload = encryptedPayload;
+    }
+
+    /**
+     * Store a new binary ciphertext with the fingerprint of its plaintext and drop any legacy text copy
+     */
+    public void replaceCiphertext(byte[] encryptedPayload, byte[] valueFingerprint) {
+        this.encryptedPayload = encryptedPayload;
+        this.encryptedValue = null;
+        this.blobId = null;
+        this.valueSize = null;
+        this.valueFingerprint = valueFingerprint;
+    }
+
+    public UUID getBlobId() {
+        return blobId;
+    }
+
+    public void setBlobId(UUID blobId) {
+        this.blobId = blobId;
+    }
+
+    public Long getValueSize() {
+        return valueSize;
+    }
+
+    public void setValueSize(Long valueSize) {
+        this.valueSize = valueSize;
+    }
+
+    public byte[] getValueFingerprint() {
+        return valueFingerprint;
+    }
+
+    public void setValueFingerprint(byte[] valueFingerprint) {
+        this.valueFingerprint = valueFingerprint;
+    }
+
+    public Integer getCurrentVersion() {
+        return currentVersion;
+    }
+
+    public void setCurrentVersion(Integer currentVersion) {
+        this.currentVersion = currentVersion;
+    }
+
+    public boolean isLargeValue() {
+        return blobId != null;
+    }
+
+    /**
+     * Point at a stored large value and drop any inline ciphertext
+     */
+    public void replaceLargeValue(UUID blobId, Long valueSize) {
+        this.encryptedPayload = null;
+        this.encryptedValue = null;
+        this.blobId = blobId;
+        this.valueSize = valueSize;
+        this.valueFingerprint = null;
+    }
+
     public String getDescription() {
         return description;
     }
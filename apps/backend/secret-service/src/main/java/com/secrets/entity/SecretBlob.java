@@ -0,0 +1,94 @@
+package com.secrets.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Immutable large secret value: compressed, split into chunks and encrypted chunk by chunk.
+ * Secrets and their versions reference a blob by id, so one blob can back several rows;
+ * a blob is removed once nothing references it any more.
+ */
+@Entity
+@Table(name = "secret_blobs", indexes = {
+    @Index(name = "idx_secret_blobs_project", columnList = "projectId")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class SecretBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // Project whose data key encrypted the chunks
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "plaintext_size", nullable = false)
+    private Long plaintextSize = 0L;
+
+    @Column(name = "stored_size", nullable = false)
+    private Long storedSize = 0L;
+
+    @Column(name = "chunk_count", nullable = false)
+    private Integer chunkCount = 0;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public SecretBlob() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getPlaintextSize() {
+        return plaintextSize;
+    }
+
+    public void setPlaintextSize(Long plaintextSize) {
+        this.plaintextSize = plaintextSize;
+    }
+
+    public Long getStoredSize() {
+        return storedSize;
+    }
+
+    public void setStoredSize(Long storedSize) {
+        this.storedSize = storedSize;
+    }
+
+    public Integer getChunkCount() {
+        return chunkCount;
+    }
+
+    public void setChunkCount(Integer chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,64 @@
+package com.secrets.entity;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * One encrypted chunk of a {@link SecretBlob}. Chunks are written and read with plain JDBC
+ * one at a time so a large value is never fully loaded; this mapping only describes the table.
+ */
+@Entity
+@Table(name = "secret_blob_chunks", uniqueConstraints = {
+    @UniqueConstraint(name = "uq_secret_blob_chunks_index", columnNames = {"blob_id", "chunk_index"})
+})
+public class SecretBlobChunk {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "blob_id", nullable = false)
+    private UUID blobId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+
+    @Column(name = "encrypted_chunk", nullable = false)
+    private byte[] encryptedChunk;
+
+    public SecretBlobChunk() {
+    }
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getBlobId() {
+        return blobId;
+    }
+
+    public void setBlobId(UUID blobId) {
+        this.blobId = blobId;
+    }
+
+    public Integer getChunkIndex() {
+        return chunkIndex;
+    }
+
+    public void setChunkIndex(Integer chunkIndex) {
+        this.chunkIndex = chunkIndex;
+    }
+
+    public byte[] getEncryptedChunk() {
+        return encryptedChunk;
+    }
+
+    public void setEncryptedChunk(byte[] encryptedChunk) {
+        this.encryptedChunk = encryptedChunk;
+    }
+}
@@ -0,0 +1,89 @@
+package com.secrets.entity;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Latest change to one secret key in a project, for delta sync.
+ * Each key keeps a single row that is overwritten on every change, so the log is compacted by
+ * construction; deletes leave a tombstone until the compaction job purges it. Rows are written
+ * and read through {@code SecretChangeLogService}.
+ */
+@Entity
+@Table(name = "secret_changes", indexes = {
+    @Index(name = "idx_secret_changes_project_revision", columnList = "projectId, revision")
+})
+@IdClass(SecretChange.Key.class)
+public class SecretChange {
+
+    @Id
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Id
+    @Column(name = "secret_key", nullable = false)
+    private String secretKey;
+
+    // Project secret revision of the change (SecretRevisionService)
+    @Column(nullable = false)
+    private Long revision;
+
+    @Column(nullable = false)
+    private Boolean deleted = false;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public SecretChange() {
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+
+    public Long getRevision() {
+        return revision;
+    }
+
+    public Boolean getDeleted() {
+        return deleted;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public static class Key implements Serializable {
+
+        private UUID projectId;
+        private String secretKey;
+
+        public Key() {
+        }
+
+        public Key(UUID projectId, String secretKey) {
+            this.projectId = projectId;
+            this.secretKey = secretKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(projectId, key.projectId) && Objects.equals(secretKey, key.secretKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectId, secretKey);
+        }
+    }
+}
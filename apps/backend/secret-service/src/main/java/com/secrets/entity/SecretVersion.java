@@ -31,9 +31,26 @@ public class SecretVersion {
     @Column(name = "version_number", nullable = false)
     private Integer versionNumber;
 
-    @Column(name = "encrypted_value", nullable = false, columnDefinition = "TEXT")
+    // Framed binary ciphertext (see CiphertextFormat)
+    @Column(name = "encrypted_payload")
+    private byte[] encryptedPayload;
+
+    // Legacy Base64 ciphertext; only set on rows the bytea backfill has not reached yet
+    @Column(name = "encrypted_value", columnDefinition = "TEXT")
     private String encryptedValue;
 
+    // Large values live in secret_blobs instead of the ciphertext columns above
+    @Column(name = "blob_id")
+    private UUID blobId;
+
+    // Plaintext size in bytes of a large value
+    @Column(name = "value_size")
+    private Long valueSize;
+
+    // Fingerprint of the plaintext, carried back to the secret on restore
+    @Column(name = "value_fingerprint")
+    private byte[] valueFingerprint;
+
     @Column(name = "created_by", nullable = false)
     private UUID createdBy;
 
@@ -95,6 +112,62 @@ public class SecretVersion {
         this.encryptedValue = encryptedValue;
     }
 
+    public byte[] getEncryptedPayload() {
+        return encryptedPayload;
+    }
+
+    public void setEncryptedPayload(byte[] encryptedPayload) {
+        this.encryptedPayload = encryptedPayload;
+    }
+
+    /**
+     * Store a new binary ciphertext and drop any legacy text copy
+     */
+    public void replaceCiphertext(byte[] encryptedPayload) {
+        this.encryptedPayload = encryptedPayload;
+        this.encryptedValue = null;
+        this.blobId = null;
+        this.valueSize = null;
+    }
+
+    public UUID getBlobId() {
+        return blobId;
+    }
+
+    public void setBlobId(UUID blobId) {
+        this.blobId = blobId;
+    }
+
+    public Long getValueSize() {
+        return valueSize;
+    }
+
+    public void setValueSize(Long valueSize) {
+        this.valueSize = valueSize;
+    }
+
+    public byte[] getValueFingerprint() {
+        return valueFingerprint;
+    }
+
+    public void setValueFingerprint(byte[] valueFingerprint) {
+        this.valueFingerprint = valueFingerprint;
+    }
+
+    public boolean isLargeValue() {
+        return blobId != null;
+    }
+
+    /**
+     * Point at a stored large value and drop any inline ciphertext
+     */
+    public void replaceLargeValue(UUID blobId, Long valueSize) {
+        this.encryptedPayload = null;
+        this.encryptedValue = null;
+        this.blobId = blobId;
+        this.valueSize = valueSize;
+    }
+
     public UUID getCreatedBy() {
         return createdBy;
     }
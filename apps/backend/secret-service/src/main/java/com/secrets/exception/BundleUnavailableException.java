@@ -0,0 +1,8 @@
+package com.secrets.exception;
+
+public class BundleUnavailableException extends RuntimeException {
+
+    public BundleUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.secrets.exception;
+
+public class SecretValueTooLargeException extends RuntimeException {
+    
+    public SecretValueTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.secrets.exception;
+
+public class WatchCapacityExceededException extends RuntimeException {
+
+    public WatchCapacityExceededException(String message) {
+        super(message);
+    }
+}
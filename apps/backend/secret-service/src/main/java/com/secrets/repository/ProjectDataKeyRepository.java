@@ -0,0 +1,25 @@
+package com.secrets.repository;
+
+import com.secrets.entity.ProjectDataKey;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ProjectDataKeyRepository extends JpaRepository<ProjectDataKey, UUID> {
+
+    /**
+     * Find the key currently used to encrypt new values in a project
+     */
+    Optional<ProjectDataKey> findByProjectIdAndActiveTrue(UUID projectId);
+
+    /**
+     * Find keys still wrapped by an older master key, after {@code afterId} in id order
+     */
+    List<ProjectDataKey> findByMasterKeyVersionNotAndIdGreaterThanOrderByIdAsc(Integer masterKeyVersion, UUID afterId,
+                                                                               Pageable pageable);
+}
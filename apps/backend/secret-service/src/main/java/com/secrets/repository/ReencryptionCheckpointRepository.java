@@ -0,0 +1,9 @@
+package com.secrets.repository;
+
+import com.secrets.entity.ReencryptionCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReencryptionCheckpointRepository extends JpaRepository<ReencryptionCheckpoint, String> {
+}
@@ -0,0 +1,11 @@
+package com.secrets.repository;
+
+import com.secrets.entity.SecretBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface SecretBlobRepository extends JpaRepository<SecretBlob, UUID> {
+}
@@ -0,0 +1,141 @@
+package com.secrets.repository;
+
+import com.secrets.entity.Secret;
+import com.secrets.repository.projection.SecretMetadata;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a keyset-paginated secret listing: the sort order plus the (sort value, id) of the
+ * last row already returned. Serialised as an opaque URL-safe continuation token.
+ */
+public final class SecretKeyset {
+
+    /**
+     * Sortable columns; all are NOT NULL so the (value, id) comparison is total
+     */
+    public enum SortField {
+        SECRET_KEY("secretKey"),
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt");
+
+        private final String property;
+
+        SortField(String property) {
+            this.property = property;
+        }
+
+        public String getProperty() {
+            return property;
+        }
+
+        public static SortField fromProperty(String property) {
+            for (SortField field : values()) {
+                if (field.property.equals(property)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported sort field for cursor pagination: " + property);
+        }
+
+        Object valueOf(Secret secret) {
+            return switch (this) {
+                case SECRET_KEY -> secret.getSecretKey();
+                case CREATED_AT -> secret.getCreatedAt();
+                case UPDATED_AT -> secret.getUpdatedAt();
+            };
+        }
+
+        Object valueOf(SecretMetadata metadata) {
+            return switch (this) {
+                case SECRET_KEY -> metadata.getSecretKey();
+                case CREATED_AT -> metadata.getCreatedAt();
+                case UPDATED_AT -> metadata.getUpdatedAt();
+            };
+        }
+
+        private Object parse(String value) {
+            return this == SECRET_KEY ? value : LocalDateTime.parse(value);
+        }
+    }
+
+    private static final String SEPARATOR = "\n";
+
+    private final SortField sortField;
+    private final boolean ascending;
+    private final Object lastValue;
+    private final UUID lastId;
+
+    private SecretKeyset(SortField sortField, boolean ascending, Object lastValue, UUID lastId) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    /**
+     * Start of the listing
+     */
+    public static SecretKeyset first(SortField sortField, boolean ascending) {
+        return new SecretKeyset(sortField, ascending, null, null);
+    }
+
+    /**
+     * Decode a continuation token; it must have been issued for the same sort order
+     */
+    public static SecretKeyset fromToken(String token, SortField sortField, boolean ascending) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The sort value goes last so secret keys may contain the separator
+            String[] parts = decoded.split(SEPARATOR, 4);
+            if (parts.length != 4
+                || SortField.valueOf(parts[0]) != sortField
+                || Boolean.parseBoolean(parts[1]) != ascending) {
+                throw new IllegalArgumentException("Cursor does not match the requested sort order");
+            }
+            return new SecretKeyset(sortField, ascending, sortField.parse(parts[3]), UUID.fromString(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public SecretKeyset after(Secret secret) {
+        return new SecretKeyset(sortField, ascending, sortField.valueOf(secret), secret.getId());
+    }
+
+    public SecretKeyset after(SecretMetadata metadata) {
+        return new SecretKeyset(sortField, ascending, sortField.valueOf(metadata), metadata.getId());
+    }
+
+    public String toToken() {
+        String raw = sortField.name() + SEPARATOR + ascending + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public SortField getSortField() {
+        return sortField;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    /**
+     * Sort value of the last row seen; null on the first page
+     */
+    public Object getLastValue() {
+        return lastValue;
+    }
+
+    public UUID getLastId() {
+        return lastId;
+    }
+
+    public boolean isFirst() {
+        return lastId == null;
+    }
+}
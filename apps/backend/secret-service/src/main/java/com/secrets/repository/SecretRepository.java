@@ -1,20 +1,28 @@
 package com.secrets.repository;
 
 import com.secrets.entity.Secret;
+import com.secrets.repository.projection.SecretLocation;
+import com.secrets.repository.projection.SecretMetadata;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface SecretRepository extends JpaRepository<Secret, UUID> {
+public interface SecretRepository extends JpaRepository<Secret, UUID>, SecretRepositoryCustom {
 
        // ============================================================================
        // Project-Scoped Queries (v3)
@@ -26,6 +34,63 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
 
        boolean existsByProjectIdAndSecretKey(UUID projectId, String secretKey);
 
+       @Query("SELECT s FROM Secret s LEFT JOIN FETCH s.creator WHERE s.projectId = :projectId AND s.secretKey IN :secretKeys")
+       List<Secret> findByProjectIdAndSecretKeyIn(@Param("projectId") UUID projectId,
+                     @Param("secretKeys") Collection<String> secretKeys);
+
+       @Query("SELECT s.secretKey FROM Secret s WHERE s.projectId = :projectId")
+       List<String> findSecretKeysByProjectId(@Param("projectId") UUID projectId);
+
+       @Query("SELECT s.secretKey FROM Secret s WHERE s.projectId = :projectId AND s.secretKey IN :secretKeys")
+       List<String> findExistingSecretKeys(@Param("projectId") UUID projectId,
+                     @Param("secretKeys") Collection<String> secretKeys);
+
+       /**
+        * (projectId, secretKey) pairs for the given keys across several projects, in one query
+        */
+       @Query("SELECT s.projectId, s.secretKey FROM Secret s WHERE s.projectId IN :projectIds AND s.secretKey IN :secretKeys")
+       List<Object[]> findSecretKeysInProjects(@Param("projectIds") Collection<UUID> projectIds,
+                     @Param("secretKeys") Collection<String> secretKeys);
+
+       /**
+        * Re-parent secrets to another project in one statement; versions follow by secret id
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE Secret s SET s.projectId = :targetProjectId, s.updatedBy = :userId, s.updatedAt = :now " +
+              "WHERE s.projectId = :sourceProjectId AND s.secretKey IN :secretKeys")
+       int moveSecrets(@Param("sourceProjectId") UUID sourceProjectId,
+                     @Param("targetProjectId") UUID targetProjectId,
+                     @Param("secretKeys") Collection<String> secretKeys,
+                     @Param("userId") UUID userId,
+                     @Param("now") LocalDateTime now);
+
+       /**
+        * Copy secrets into another project with INSERT ... SELECT. Ciphertext, blob references and
+        * fingerprints are copied as stored, so nothing is decrypted; every copy starts at version 1.
+        */
+       @Modifying(flushAutomatically = true)
+       @Query(value = "INSERT INTO secrets (id, project_id, secret_key, encrypted_payload, encrypted_value, blob_id, " +
+              "value_size, value_fingerprint, current_version, description, created_by, created_at, updated_at, expires_at) " +
+              "SELECT gen_random_uuid(), :targetProjectId, s.secret_key, s.encrypted_payload, s.encrypted_value, s.blob_id, " +
+              "s.value_size, s.value_fingerprint, 1, s.description, :userId, :now, :now, s.expires_at " +
+              "FROM secrets s WHERE s.project_id = :sourceProjectId AND s.secret_key IN (:secretKeys)",
+              nativeQuery = true)
+       int copySecrets(@Param("sourceProjectId") UUID sourceProjectId,
+                     @Param("targetProjectId") UUID targetProjectId,
+                     @Param("secretKeys") Collection<String> secretKeys,
+                     @Param("userId") UUID userId,
+                     @Param("now") LocalDateTime now);
+
+       /**
+        * Cursor over every secret of a project, ordered by key. Must be consumed inside a transaction.
+        */
+       @QueryHints({
+              @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+              @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+       })
+       @Query("SELECT s FROM Secret s WHERE s.projectId = :projectId ORDER BY s.secretKey")
+       Stream<Secret> streamByProjectId(@Param("projectId") UUID projectId);
+
        @Query("SELECT s FROM Secret s LEFT JOIN FETCH s.creator WHERE s.projectId = :projectId")
        Page<Secret> findByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
 
@@ -37,9 +102,53 @@ public interface SecretRepository extends JpaRepository<Secret, UUID> {
                      @Param("keyword") String keyword,
                      Pageable pageable);
 
+       // Metadata projections: never select encrypted_value; creator and current version come
+       // from the same statement, so a page costs one query plus its count
+       @Query(value = "SELECT new com.secrets.repository.projection.SecretMetadata(" +
+                     "s.id, s.secretKey, s.description, s.createdBy, c.email, c.displayName, " +
+                     "s.createdAt, s.updatedAt, s.expiresAt, s.valueSize, " +
+                     "s.currentVersion) " +
+                     "FROM Secret s LEFT JOIN s.creator c WHERE s.projectId = :projectId",
+                     countQuery = "SELECT COUNT(s) FROM Secret s WHERE s.projectId = :projectId")
+       Page<SecretMetadata> findMetadataByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+       @Query(value = "SELECT new com.secrets.repository.projection.SecretMetadata(" +
+                     "s.id, s.secretKey, s.description, s.createdBy, c.email, c.displayName, " +
+                     "s.createdAt, s.updatedAt, s.expiresAt, s.valueSize, " +
+                     "s.currentVersion) " +
+                     "FROM Secret s LEFT JOIN s.creator c WHERE s.projectId = :projectId " +
+                     "AND (LOWER(s.secretKey) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                     "OR LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%')))",
+                     countQuery = "SELECT COUNT(s) FROM Secret s WHERE s.projectId = :projectId " +
+                     "AND (LOWER(s.secretKey) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                     "OR LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+       Page<SecretMetadata> findMetadataByProjectIdAndKeyword(
+                     @Param("projectId") UUID projectId,
+                     @Param("keyword") String keyword,
+                     Pageable pageable);
+
        @Query(value = "SELECT COUNT(*) FROM secrets WHERE project_id = :projectId", nativeQuery = true)
        Long countByProjectId(@Param("projectId") UUID projectId);
 
+       @Query("SELECT COUNT(s) FROM Secret s WHERE s.projectId = :projectId " +
+                     "AND (LOWER(s.secretKey) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+                     "OR LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
+       long countByProjectIdAndKeyword(@Param("projectId") UUID projectId, @Param("keyword") String keyword);
+
+       // Other secrets holding the same value, matched on the keyed fingerprint; nothing is decrypted.
+       // Restricted to projects the user can view (direct or team membership) before the page limit applies
+       @Query("SELECT new com.secrets.repository.projection.SecretLocation(s.projectId, p.name, s.secretKey) " +
+                     "FROM Secret s JOIN s.project p WHERE s.valueFingerprint = :fingerprint AND s.id <> :secretId " +
+                     "AND p.deletedAt IS NULL " +
+                     "AND (EXISTS (SELECT 1 FROM ProjectMembership pm WHERE pm.projectId = s.projectId AND pm.userId = :userId) " +
+                     "OR EXISTS (SELECT 1 FROM TeamMembership tm JOIN TeamProject tp ON tp.teamId = tm.teamId " +
+                     "WHERE tp.projectId = s.projectId AND tm.userId = :userId)) " +
+                     "ORDER BY p.name, s.secretKey")
+       List<SecretLocation> findLocationsByValueFingerprint(@Param("fingerprint") byte[] fingerprint,
+                                                            @Param("secretId") UUID secretId,
+                                                            @Param("userId") UUID userId,
+                                                            Pageable pageable);
+
        // ============================================================================
        // Expiration Queries
        // ============================================================================
@@ -0,0 +1,28 @@
+package com.secrets.repository;
+
+import com.secrets.entity.Secret;
+import com.secrets.repository.projection.SecretMetadata;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset-paginated secret listings (see {@link SecretKeyset}) and ranked search
+ */
+public interface SecretRepositoryCustom {
+
+    /**
+     * Up to {@code limit} secrets after the keyset position, creator fetched
+     */
+    List<Secret> findSecretsAfter(UUID projectId, String keyword, SecretKeyset keyset, int limit);
+
+    /**
+     * Up to {@code limit} metadata rows after the keyset position, without ciphertext
+     */
+    List<SecretMetadata> findMetadataAfter(UUID projectId, String keyword, SecretKeyset keyset, int limit);
+
+    /**
+     * Best {@code limit} matches for a search term, most relevant first, without ciphertext
+     */
+    List<SecretMetadata> searchMetadata(UUID projectId, String term, int limit);
+}
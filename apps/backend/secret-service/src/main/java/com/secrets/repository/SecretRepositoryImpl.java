@@ -0,0 +1,177 @@
+package com.secrets.repository;
+
+import com.secrets.entity.Secret;
+import com.secrets.repository.projection.SecretMetadata;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keyset queries: rows are ordered by (sort field, id) and a page starts strictly after the last
+ * row of the previous one, so no OFFSET is scanned and no COUNT is issued.
+ *
+ * Search uses the pg_trgm GIN indexes on PostgreSQL: substring matches on key or description
+ * plus fuzzy key matches, ranked by trigram similarity. Databases without pg_trgm (H2 in tests)
+ * fall back to a LIKE scan ranked by exact, prefix and substring key matches.
+ */
+class SecretRepositoryImpl implements SecretRepositoryCustom {
+
+    private static final Logger log = LoggerFactory.getLogger(SecretRepositoryImpl.class);
+
+    // Candidate ids ranked in the database; exact key matches first, description hits weigh half
+    private static final String TRIGRAM_SEARCH_SQL =
+        "SELECT s.id FROM secrets s " +
+            "WHERE s.project_id = :projectId " +
+            "AND (lower(s.secret_key) LIKE :pattern OR lower(s.description) LIKE :pattern " +
+            "OR lower(s.secret_key) % :term) " +
+            "ORDER BY (lower(s.secret_key) = :term) DESC, " +
+            "GREATEST(similarity(lower(s.secret_key), :term), " +
+            "word_similarity(:term, lower(coalesce(s.description, ''))) * 0.5) DESC, " +
+            "s.secret_key " +
+            "LIMIT :limit";
+
+    private static final String FALLBACK_SEARCH_JPQL =
+        "SELECT s.id FROM Secret s WHERE s.projectId = :projectId " +
+            "AND (LOWER(s.secretKey) LIKE :pattern OR LOWER(s.description) LIKE :pattern) " +
+            "ORDER BY CASE WHEN LOWER(s.secretKey) = :term THEN 0 " +
+            "WHEN LOWER(s.secretKey) LIKE :prefix THEN 1 " +
+            "WHEN LOWER(s.secretKey) LIKE :pattern THEN 2 ELSE 3 END, s.secretKey";
+
+    private static final String METADATA_SELECT =
+        "SELECT new com.secrets.repository.projection.SecretMetadata(" +
+            "s.id, s.secretKey, s.description, s.createdBy, c.email, c.displayName, " +
+            "s.createdAt, s.updatedAt, s.expiresAt, s.valueSize, " +
+            "s.currentVersion) " +
+            "FROM Secret s LEFT JOIN s.creator c";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DataSource dataSource;
+    private volatile Boolean trigramSearch;
+
+    SecretRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public List<Secret> findSecretsAfter(UUID projectId, String keyword, SecretKeyset keyset, int limit) {
+        return query("SELECT s FROM Secret s LEFT JOIN FETCH s.creator", Secret.class,
+            projectId, keyword, keyset, limit).getResultList();
+    }
+
+    @Override
+    public List<SecretMetadata> findMetadataAfter(UUID projectId, String keyword, SecretKeyset keyset, int limit) {
+        return query(METADATA_SELECT, SecretMetadata.class, projectId, keyword, keyset, limit).getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SecretMetadata> searchMetadata(UUID projectId, String term, int limit) {
+        String normalized = term.toLowerCase(Locale.ROOT);
+        String escaped = normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+
+        List<UUID> ids;
+        if (trigramSearchAvailable()) {
+            ids = entityManager.createNativeQuery(TRIGRAM_SEARCH_SQL, UUID.class)
+                .setParameter("projectId", projectId)
+                .setParameter("pattern", "%" + escaped + "%")
+                .setParameter("term", normalized)
+                .setParameter("limit", limit)
+                .getResultList();
+        } else {
+            ids = entityManager.createQuery(FALLBACK_SEARCH_JPQL, UUID.class)
+                .setParameter("projectId", projectId)
+                .setParameter("pattern", "%" + escaped + "%")
+                .setParameter("prefix", escaped + "%")
+                .setParameter("term", normalized)
+                .setMaxResults(limit)
+                .getResultList();
+        }
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Integer> rank = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            rank.put(ids.get(i), i);
+        }
+        List<SecretMetadata> rows = entityManager.createQuery(METADATA_SELECT + " WHERE s.id IN :ids", SecretMetadata.class)
+            .setParameter("ids", ids)
+            .getResultList();
+        return rows.stream()
+            .sorted(Comparator.comparing(row -> rank.get(row.getId())))
+            .toList();
+    }
+
+    private boolean trigramSearchAvailable() {
+        Boolean available = trigramSearch;
+        if (available == null) {
+            available = detectTrigramSearch();
+            trigramSearch = available;
+            log.info("Secret search uses {}", available ? "pg_trgm indexes" : "the LIKE fallback");
+        }
+        return available;
+    }
+
+    // Own connection, so a failing probe cannot abort the caller's transaction
+    private boolean detectTrigramSearch() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery("SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'")) {
+                return result.next();
+            }
+        } catch (SQLException e) {
+            log.warn("Could not detect pg_trgm, using the LIKE fallback: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private <T> TypedQuery<T> query(String select, Class<T> type, UUID projectId, String keyword,
+                                    SecretKeyset keyset, int limit) {
+        String field = "s." + keyset.getSortField().getProperty();
+        String comparison = keyset.isAscending() ? ">" : "<";
+        String direction = keyset.isAscending() ? "ASC" : "DESC";
+
+        StringBuilder jpql = new StringBuilder(select).append(" WHERE s.projectId = :projectId");
+        if (keyword != null) {
+            jpql.append(" AND (LOWER(s.secretKey) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+                .append(" OR LOWER(s.description) LIKE LOWER(CONCAT('%', :keyword, '%')))");
+        }
+        if (!keyset.isFirst()) {
+            jpql.append(" AND (").append(field).append(' ').append(comparison).append(" :lastValue")
+                .append(" OR (").append(field).append(" = :lastValue AND s.id ").append(comparison).append(" :lastId))");
+        }
+        jpql.append(" ORDER BY ").append(field).append(' ').append(direction)
+            .append(", s.id ").append(direction);
+
+        TypedQuery<T> query = entityManager.createQuery(jpql.toString(), type)
+            .setParameter("projectId", projectId)
+            .setMaxResults(limit);
+        if (keyword != null) {
+            query.setParameter("keyword", keyword);
+        }
+        if (!keyset.isFirst()) {
+            query.setParameter("lastValue", keyset.getLastValue());
+            query.setParameter("lastId", keyset.getLastId());
+        }
+        return query;
+    }
+}
@@ -1,11 +1,16 @@
 package com.secrets.repository;
 
 import com.secrets.entity.SecretVersion;
+import com.secrets.repository.projection.SecretVersionSummary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,15 +19,42 @@ import java.util.UUID;
 public interface SecretVersionRepository extends JpaRepository<SecretVersion, UUID> {
 
     // v3 queries
-    List<SecretVersion> findBySecretIdOrderByVersionNumberDesc(UUID secretId);
+    // History pages select no ciphertext; getSecretVersion loads the one version being viewed
+    @Query("SELECT new com.secrets.repository.projection.SecretVersionSummary(" +
+           "sv.id, sv.versionNumber, sv.createdBy, sv.changeNote, sv.createdAt) " +
+           "FROM SecretVersion sv WHERE sv.secretId = :secretId ORDER BY sv.versionNumber DESC")
+    List<SecretVersionSummary> findSummariesBySecretId(@Param("secretId") UUID secretId, Pageable pageable);
+
+    // Keyset page of the history: versions below the last one already returned
+    @Query("SELECT new com.secrets.repository.projection.SecretVersionSummary(" +
+           "sv.id, sv.versionNumber, sv.createdBy, sv.changeNote, sv.createdAt) " +
+           "FROM SecretVersion sv WHERE sv.secretId = :secretId AND sv.versionNumber < :beforeVersion " +
+           "ORDER BY sv.versionNumber DESC")
+    List<SecretVersionSummary> findSummariesBySecretIdBefore(@Param("secretId") UUID secretId,
+                                                             @Param("beforeVersion") Integer beforeVersion,
+                                                             Pageable pageable);
 
     Optional<SecretVersion> findBySecretIdAndVersionNumber(UUID secretId, Integer versionNumber);
 
-    @Query("SELECT MAX(sv.versionNumber) FROM SecretVersion sv WHERE sv.secretId = :secretId")
-    Optional<Integer> findMaxVersionNumberBySecretId(@Param("secretId") UUID secretId);
-
     @Query("SELECT COUNT(sv) FROM SecretVersion sv WHERE sv.secretId = :secretId")
     Long countBySecretId(@Param("secretId") UUID secretId);
 
     void deleteBySecretId(UUID secretId);
+
+    @Query("SELECT DISTINCT sv.blobId FROM SecretVersion sv WHERE sv.secretId = :secretId AND sv.blobId IS NOT NULL")
+    List<UUID> findBlobIdsBySecretId(@Param("secretId") UUID secretId);
+
+    // Version 1 for every secret just written by SecretRepository.copySecrets, in one statement
+    @Modifying
+    @Query(value = "INSERT INTO secret_versions (id, secret_id, version_number, encrypted_payload, encrypted_value, " +
+           "blob_id, value_size, value_fingerprint, created_by, created_at, change_note) " +
+           "SELECT gen_random_uuid(), s.id, 1, s.encrypted_payload, s.encrypted_value, s.blob_id, s.value_size, " +
+           "s.value_fingerprint, :userId, :now, :changeNote " +
+           "FROM secrets s WHERE s.project_id = :projectId AND s.secret_key IN (:secretKeys)",
+           nativeQuery = true)
+    int insertInitialVersions(@Param("projectId") UUID projectId,
+                              @Param("secretKeys") Collection<String> secretKeys,
+                              @Param("userId") UUID userId,
+                              @Param("changeNote") String changeNote,
+                              @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,31 @@
+package com.secrets.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Where a secret lives: its project and key, without any value
+ */
+public class SecretLocation {
+
+    private final UUID projectId;
+    private final String projectName;
+    private final String secretKey;
+
+    public SecretLocation(UUID projectId, String projectName, String secretKey) {
+        this.projectId = projectId;
+        this.projectName = projectName;
+        this.secretKey = secretKey;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+}
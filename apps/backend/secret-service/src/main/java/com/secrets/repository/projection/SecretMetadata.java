@@ -0,0 +1,96 @@
+package com.secrets.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Secret row without its ciphertext, with creator display fields and current version,
+ * for listings that do not return values
+ */
+public class SecretMetadata {
+
+    private final UUID id;
+    private final String secretKey;
+    private final String description;
+    private final UUID createdBy;
+    private final String creatorEmail;
+    private final String creatorDisplayName;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime expiresAt;
+    private final Long valueSize;
+    private final Integer currentVersion;
+
+    public SecretMetadata(UUID id, String secretKey, String description, UUID createdBy, String creatorEmail,
+                          String creatorDisplayName, LocalDateTime createdAt, LocalDateTime updatedAt,
+                          LocalDateTime expiresAt, Long valueSize, Integer currentVersion) {
+        this.id = id;
+        this.secretKey = secretKey;
+        this.description = description;
+        this.createdBy = createdBy;
+        this.creatorEmail = creatorEmail;
+        this.creatorDisplayName = creatorDisplayName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.expiresAt = expiresAt;
+        this.valueSize = valueSize;
+        this.currentVersion = currentVersion;
+    }
+
+    public boolean isExpired() {
+        if (expiresAt == null) {
+            return false;
+        }
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public UUID getCreatedBy() {
+        return createdBy;
+    }
+
+    public String getCreatorEmail() {
+        return creatorEmail;
+    }
+
+    public String getCreatorDisplayName() {
+        return creatorDisplayName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Plaintext size of a large value; null for inline secrets
+     */
+    public Long getValueSize() {
+        return valueSize;
+    }
+
+    /**
+     * Highest version number of the secret; null if it has no versions
+     */
+    public Integer getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,45 @@
+package com.secrets.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Secret version row without its ciphertext, for version history listings
+ */
+public class SecretVersionSummary {
+
+    private final UUID id;
+    private final Integer versionNumber;
+    private final UUID createdBy;
+    private final String changeNote;
+    private final LocalDateTime createdAt;
+
+    public SecretVersionSummary(UUID id, Integer versionNumber, UUID createdBy, String changeNote,
+                                LocalDateTime createdAt) {
+        this.id = id;
+        this.versionNumber = versionNumber;
+        this.createdBy = createdBy;
+        this.changeNote = changeNote;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public UUID getCreatedBy() {
+        return createdBy;
+    }
+
+    public String getChangeNote() {
+        return changeNote;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,84 +1,150 @@
 package com.secrets.service;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.secrets.service.crypto.AesGcm;
+import com.secrets.service.crypto.CiphertextFormat;
+import com.secrets.service.crypto.MasterKeyRing;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.Cipher;
+import javax.crypto.AEADBadTagException;
 import javax.crypto.SecretKey;
-import javax.crypto.spec.GCMParameterSpec;
-import javax.crypto.spec.SecretKeySpec;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.UUID;
 
 @Service
 public class AesEncryptionService implements EncryptionService {
 
-    private static final String ALGORITHM = "AES";
-    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
-    private static final int GCM_IV_LENGTH = 12;
-    private static final int GCM_TAG_LENGTH = 16;
-    private static final int KEY_LENGTH = 32; // 256 bits
-
-    private final SecretKey secretKey;
-
-    public AesEncryptionService(@Value("${encryption.key}") String encryptionKey) {
-        // Ensure key is exactly 32 bytes for AES-256
-        byte[] keyBytes = encryptionKey.getBytes(StandardCharsets.UTF_8);
-        if (keyBytes.length != KEY_LENGTH) {
-            throw new IllegalArgumentException(
-                String.format("Encryption key must be exactly %d bytes (256 bits) for AES-256", KEY_LENGTH)
-            );
-        }
-        this.secretKey = new SecretKeySpec(keyBytes, ALGORITHM);
+    // Base64 characters that cover the longest header (17 bytes -> 24 chars)
+    private static final int HEADER_TEXT_LENGTH = 24;
+
+    private final MasterKeyRing masterKeyRing;
+    private final DataKeyService dataKeyService;
+
+    public AesEncryptionService(MasterKeyRing masterKeyRing, DataKeyService dataKeyService) {
+        this.masterKeyRing = masterKeyRing;
+        this.dataKeyService = dataKeyService;
     }
 
     @Override
     public String encrypt(String plainText) {
-        try {
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            SecureRandom random = new SecureRandom();
-            random.nextBytes(iv);
+        byte[] payload = encrypt(plainText.getBytes(StandardCharsets.UTF_8));
+        return CiphertextFormat.TEXT_PREFIX + Base64.getEncoder().encodeToString(payload);
+    }
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
+    @Override
+    public String encrypt(UUID projectId, String plainText) {
+        byte[] payload = encrypt(projectId, plainText.getBytes(StandardCharsets.UTF_8));
+        return CiphertextFormat.TEXT_PREFIX + Base64.getEncoder().encodeToString(payload);
+    }
 
-            byte[] cipherText = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+    @Override
+    public String decrypt(String encryptedText) {
+        if (CiphertextFormat.isFramed(encryptedText)) {
+            byte[] payload = Base64.getDecoder().decode(encryptedText.substring(CiphertextFormat.TEXT_PREFIX.length()));
+            return new String(decrypt(payload), StandardCharsets.UTF_8);
+        }
+        return new String(decryptUnframed(Base64.getDecoder().decode(encryptedText)), StandardCharsets.UTF_8);
+    }
 
-            // Combine IV and ciphertext
-            ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + cipherText.length);
-            byteBuffer.put(iv);
-            byteBuffer.put(cipherText);
+    @Override
+    public byte[] encrypt(byte[] plainText) {
+        try {
+            byte[] payload = AesGcm.seal(masterKeyRing.current(), plainText, 0, plainText.length,
+                CiphertextFormat.MASTER_KEY_HEADER_LENGTH);
+            CiphertextFormat.writeMasterKeyHeader(payload, masterKeyRing.currentVersion());
+            return payload;
+        } catch (Exception e) {
+            throw new RuntimeException("Error encrypting secret", e);
+        }
+    }
 
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
+    @Override
+    public byte[] encrypt(UUID projectId, byte[] plainText) {
+        try {
+            DataKeyService.DataKey dataKey = dataKeyService.activeKey(projectId);
+            byte[] payload = AesGcm.seal(dataKey.getKey(), plainText, 0, plainText.length,
+                CiphertextFormat.DATA_KEY_HEADER_LENGTH);
+            CiphertextFormat.writeDataKeyHeader(payload, dataKey.getId());
+            return payload;
         } catch (Exception e) {
             throw new RuntimeException("Error encrypting secret", e);
         }
     }
 
     @Override
-    public String decrypt(String encryptedText) {
+    public byte[] decrypt(byte[] payload) {
+        try {
+            byte scheme = CiphertextFormat.scheme(payload);
+            int headerLength = CiphertextFormat.headerLength(scheme);
+            return AesGcm.open(keyFor(scheme, payload), payload, headerLength, payload.length - headerLength);
+        } catch (Exception e) {
+            throw new RuntimeException("Error decrypting secret", e);
+        }
+    }
+
+    @Override
+    public int decrypt(ByteBuffer payload, ByteBuffer output) {
         try {
-            byte[] decoded = Base64.getDecoder().decode(encryptedText);
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
+            byte scheme = payload.get(payload.position());
+            byte[] header = new byte[CiphertextFormat.headerLength(scheme)];
+            payload.get(header);
+            return AesGcm.open(keyFor(scheme, header), payload, output);
+        } catch (Exception e) {
+            throw new RuntimeException("Error decrypting secret", e);
+        }
+    }
 
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
+    @Override
+    public String decryptStored(byte[] payload, String legacyText) {
+        if (payload != null) {
+            return new String(decrypt(payload), StandardCharsets.UTF_8);
+        }
+        return decrypt(legacyText);
+    }
 
-            byte[] cipherText = new byte[byteBuffer.remaining()];
-            byteBuffer.get(cipherText);
+    @Override
+    public boolean needsReencryption(UUID projectId, String encryptedText) {
+        if (!CiphertextFormat.isFramed(encryptedText)) {
+            return true;
+        }
+        byte[] header = Base64.getDecoder().decode(encryptedText.substring(
+            CiphertextFormat.TEXT_PREFIX.length(),
+            CiphertextFormat.TEXT_PREFIX.length() + HEADER_TEXT_LENGTH));
+        return needsReencryption(projectId, header);
+    }
 
-            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH * 8, iv);
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
+    @Override
+    public boolean needsReencryption(UUID projectId, byte[] payload) {
+        if (CiphertextFormat.scheme(payload) != CiphertextFormat.SCHEME_DATA_KEY) {
+            return true;
+        }
+        return !CiphertextFormat.dataKeyId(payload).equals(dataKeyService.activeKey(projectId).getId());
+    }
 
-            byte[] plainText = cipher.doFinal(cipherText);
-            return new String(plainText, StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            throw new RuntimeException("Error decrypting secret", e);
+    private SecretKey keyFor(byte scheme, byte[] header) {
+        if (scheme == CiphertextFormat.SCHEME_DATA_KEY) {
+            return dataKeyService.dataKey(CiphertextFormat.dataKeyId(header));
         }
+        return masterKeyRing.forVersion(CiphertextFormat.masterKeyVersion(header));
     }
-}
 
+    /**
+     * Unframed payloads predate key versioning, so try the current master key first
+     * and then any retired ones. GCM authentication rejects a wrong key reliably.
+     */
+    private byte[] decryptUnframed(byte[] sealed) {
+        Exception failure = null;
+        for (SecretKey key : masterKeyRing.keys().values()) {
+            try {
+                return AesGcm.open(key, sealed);
+            } catch (AEADBadTagException e) {
+                failure = e;
+            } catch (Exception e) {
+                failure = e;
+                break;
+            }
+        }
+        throw new RuntimeException("Error decrypting secret", failure);
+    }
+}
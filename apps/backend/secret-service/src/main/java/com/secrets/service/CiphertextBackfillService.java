@@ -0,0 +1,124 @@
+package com.secrets.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background backfill from the legacy Base64 {@code encrypted_value} column to the binary
+ * {@code encrypted_payload} column.
+ *
+ * Framed text ({@code "$" + Base64}) is converted in the database with one set-based UPDATE
+ * per batch; no decryption is needed because the binary payload is exactly the decoded text.
+ * The outer WHERE repeats the filter so a row rewritten by a user in the meantime is skipped.
+ * Unframed legacy rows carry no key header and can only be moved by re-encrypting them, which
+ * the re-encryption job does; they are counted here and reported.
+ */
+@Service
+public class CiphertextBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(CiphertextBackfillService.class);
+
+    private static final List<String> TABLES = List.of(
+        SecretReencryptionService.SECRETS, SecretReencryptionService.SECRET_VERSIONS);
+
+    private static final String CONVERT_SQL =
+        "UPDATE %1$s SET encrypted_payload = decode(substr(encrypted_value, 2), 'base64'), encrypted_value = NULL " +
+            "WHERE encrypted_payload IS NULL AND encrypted_value LIKE '$%%' AND id IN (" +
+            "SELECT id FROM %1$s WHERE encrypted_payload IS NULL AND encrypted_value LIKE '$%%' ORDER BY id LIMIT ?)";
+
+    private static final String COUNT_REMAINING_SQL =
+        "SELECT COUNT(*) FROM %s WHERE encrypted_payload IS NULL AND encrypted_value IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, AtomicLong> remainingGauges = new HashMap<>();
+    private final Counter convertedRows;
+    private volatile boolean completed;
+
+    @Value("${encryption.bytea-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${encryption.bytea-backfill.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${encryption.bytea-backfill.pause-between-batches:PT0.1S}")
+    private Duration pauseBetweenBatches;
+
+    public CiphertextBackfillService(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.convertedRows = Counter.builder("secrets.ciphertext.backfill.rows")
+            .description("Rows moved from Base64 text to binary ciphertext")
+            .register(meterRegistry);
+        for (String table : TABLES) {
+            AtomicLong remaining = new AtomicLong(-1);
+            remainingGauges.put(table, remaining);
+            Gauge.builder("secrets.ciphertext.backfill.remaining", remaining, AtomicLong::get)
+                .description("Rows still stored as Base64 text (-1 until first counted)")
+                .tag("table", table)
+                .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Convert framed text rows in batches; each UPDATE commits on its own.
+     * Once nothing convertible is left the job stays idle until the next restart.
+     */
+    @Scheduled(initialDelayString = "${encryption.bytea-backfill.initial-delay:PT30S}",
+               fixedDelayString = "${encryption.bytea-backfill.interval:PT5M}")
+    public void backfill() {
+        if (!enabled || completed) {
+            return;
+        }
+        long total = 0;
+        try {
+            for (String table : TABLES) {
+                String sql = String.format(CONVERT_SQL, table);
+                int converted;
+                do {
+                    converted = jdbcTemplate.update(sql, batchSize);
+                    total += converted;
+                    convertedRows.increment(converted);
+                    if (converted > 0 && !pauseBetweenBatches.isZero()) {
+                        Thread.sleep(pauseBetweenBatches.toMillis());
+                    }
+                } while (converted == batchSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.error("Ciphertext backfill stopped after {} rows: {}", total, e.getMessage(), e);
+            return;
+        }
+
+        long legacyRows = 0;
+        for (String table : TABLES) {
+            Long remaining = jdbcTemplate.queryForObject(String.format(COUNT_REMAINING_SQL, table), Long.class);
+            long count = remaining != null ? remaining : 0;
+            remainingGauges.get(table).set(count);
+            legacyRows += count;
+        }
+        if (total > 0) {
+            log.info("Moved {} ciphertexts from Base64 text to binary storage", total);
+        }
+        if (legacyRows > 0) {
+            log.warn("{} unframed legacy ciphertexts remain in text form; run the re-encryption job to convert them",
+                legacyRows);
+        } else {
+            completed = true;
+            log.info("Ciphertext backfill complete; all rows use binary storage");
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.secrets.service;
+
+import com.secrets.entity.ProjectDataKey;
+import com.secrets.repository.ProjectDataKeyRepository;
+import com.secrets.service.crypto.AesGcm;
+import com.secrets.service.crypto.MasterKeyRing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Manages per-project data keys for envelope encryption.
+ *
+ * Secret values are encrypted with their project's data key; only the data key is
+ * encrypted with the master key. Rotating the master key therefore re-wraps one row per
+ * project instead of re-encrypting every secret. Unwrapped keys are held in the
+ * size-bounded, TTL-evicting {@code activeDataKeys} and {@code dataKeys} caches.
+ */
+@Service
+public class DataKeyService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataKeyService.class);
+
+    private final ProjectDataKeyRepository dataKeyRepository;
+    private final MasterKeyRing masterKeyRing;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate newTransactionTemplate;
+    private final SecureRandom keySource = new SecureRandom();
+
+    @Value("${encryption.data-keys.rewrap-batch-size:100}")
+    private int rewrapBatchSize;
+
+    public DataKeyService(ProjectDataKeyRepository dataKeyRepository,
+                          MasterKeyRing masterKeyRing,
+                          PlatformTransactionManager transactionManager) {
+        this.dataKeyRepository = dataKeyRepository;
+        this.masterKeyRing = masterKeyRing;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Get the data key used to encrypt new values in a project, creating it on first use
+     */
+    @Cacheable(cacheNames = "activeDataKeys", key = "#projectId")
+    public DataKey activeKey(UUID projectId) {
+        ProjectDataKey row = dataKeyRepository.findByProjectIdAndActiveTrue(projectId)
+            .orElseGet(() -> createDataKey(projectId));
+        return new DataKey(row.getId(), row.getProjectId(), unwrap(row));
+    }
+
+    /**
+     * Get a data key by id, as referenced from a ciphertext header
+     */
+    @Cacheable(cacheNames = "dataKeys", key = "#dataKeyId")
+    public SecretKey dataKey(UUID dataKeyId) {
+        ProjectDataKey row = dataKeyRepository.findById(dataKeyId)
+            .orElseThrow(() -> new IllegalStateException("Data key " + dataKeyId + " not found"));
+        return unwrap(row);
+    }
+
+    /**
+     * Retire the project's active data key and create a new one. Existing ciphertexts stay
+     * readable through the old key until the re-encryption job has rewritten them.
+     */
+    @CacheEvict(cacheNames = "activeDataKeys", key = "#projectId")
+    public DataKey rotateDataKey(UUID projectId) {
+        ProjectDataKey created = transactionTemplate.execute(status -> {
+            dataKeyRepository.findByProjectIdAndActiveTrue(projectId).ifPresent(current -> {
+                current.setActive(false);
+                // Flush before inserting the replacement so the one-active-key index holds
+                dataKeyRepository.saveAndFlush(current);
+            });
+            return insertDataKey(projectId);
+        });
+        log.info("Rotated data key for project {} to {}", projectId, created.getId());
+        return new DataKey(created.getId(), created.getProjectId(), unwrap(created));
+    }
+
+    /**
+     * Re-wrap data keys still protected by a retired master key.
+     * Each batch commits on its own, so the sweep can be interrupted and resumed safely. The
+     * sweep walks the keys in id order; a key that cannot be unwrapped (e.g. its master key
+     * version is no longer configured) is logged and skipped, so it cannot block the keys after it.
+     */
+    @Scheduled(initialDelayString = "${encryption.data-keys.rewrap-initial-delay:PT1M}",
+               fixedDelayString = "${encryption.data-keys.rewrap-interval:PT1H}")
+    public void rewrapDataKeys() {
+        int currentVersion = masterKeyRing.currentVersion();
+        int total = 0;
+        int skipped = 0;
+        UUID afterId = new UUID(0L, 0L);
+        try {
+            while (true) {
+                UUID cursor = afterId;
+                List<ProjectDataKey> batch = transactionTemplate.execute(status -> {
+                    List<ProjectDataKey> rows = dataKeyRepository.findByMasterKeyVersionNotAndIdGreaterThanOrderByIdAsc(
+                        currentVersion, cursor, PageRequest.of(0, rewrapBatchSize));
+                    List<ProjectDataKey> rewrapped = new ArrayList<>(rows.size());
+                    for (ProjectDataKey row : rows) {
+                        if (rewrap(row, currentVersion)) {
+                            rewrapped.add(row);
+                        }
+                    }
+                    dataKeyRepository.saveAll(rewrapped);
+                    return rows;
+                });
+                if (batch == null || batch.isEmpty()) {
+                    break;
+                }
+                for (ProjectDataKey row : batch) {
+                    if (Integer.valueOf(currentVersion).equals(row.getMasterKeyVersion())) {
+                        total++;
+                    } else {
+                        skipped++;
+                    }
+                }
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } catch (Exception e) {
+            log.error("Data key re-wrap stopped after {} keys: {}", total, e.getMessage(), e);
+            return;
+        }
+        if (total > 0) {
+            log.info("Re-wrapped {} data keys with master key version {}", total, currentVersion);
+        }
+        if (skipped > 0) {
+            log.warn("Skipped {} data keys that could not be re-wrapped; they are retried on the next run", skipped);
+        }
+    }
+
+    /**
+     * Re-wrap one key in place; false (and logged) if it cannot be unwrapped
+     */
+    private boolean rewrap(ProjectDataKey row, int currentVersion) {
+        byte[] keyBytes;
+        try {
+            keyBytes = unwrapBytes(row);
+        } catch (RuntimeException e) {
+            log.warn("Cannot re-wrap data key {} of project {} (master key version {}): {}",
+                row.getId(), row.getProjectId(), row.getMasterKeyVersion(), e.getMessage());
+            return false;
+        }
+        try {
+            row.setWrappedKey(wrap(keyBytes));
+            row.setMasterKeyVersion(currentVersion);
+            return true;
+        } finally {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+
+    private ProjectDataKey createDataKey(UUID projectId) {
+        try {
+            ProjectDataKey created = newTransactionTemplate.execute(status -> insertDataKey(projectId));
+            log.info("Created data key {} for project {}", created.getId(), projectId);
+            return created;
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the key concurrently; use theirs
+            return dataKeyRepository.findByProjectIdAndActiveTrue(projectId)
+                .orElseThrow(() -> e);
+        }
+    }
+
+    private ProjectDataKey insertDataKey(UUID projectId) {
+        byte[] keyBytes = new byte[AesGcm.KEY_LENGTH];
+        keySource.nextBytes(keyBytes);
+        try {
+            ProjectDataKey row = new ProjectDataKey();
+            row.setProjectId(projectId);
+            row.setWrappedKey(wrap(keyBytes));
+            row.setMasterKeyVersion(masterKeyRing.currentVersion());
+            row.setActive(true);
+            return dataKeyRepository.saveAndFlush(row);
+        } finally {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+
+    private String wrap(byte[] keyBytes) {
+        try {
+            return Base64.getEncoder().encodeToString(AesGcm.seal(masterKeyRing.current(), keyBytes));
+        } catch (Exception e) {
+            throw new RuntimeException("Error wrapping data key", e);
+        }
+    }
+
+    private SecretKey unwrap(ProjectDataKey row) {
+        byte[] keyBytes = unwrapBytes(row);
+        try {
+            return new SecretKeySpec(keyBytes, AesGcm.ALGORITHM);
+        } finally {
+            Arrays.fill(keyBytes, (byte) 0);
+        }
+    }
+
+    private byte[] unwrapBytes(ProjectDataKey row) {
+        try {
+            SecretKey masterKey = masterKeyRing.forVersion(row.getMasterKeyVersion());
+            return AesGcm.open(masterKey, Base64.getDecoder().decode(row.getWrappedKey()));
+        } catch (IllegalStateException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Error unwrapping data key " + row.getId(), e);
+        }
+    }
+
+    /**
+     * An unwrapped data key together with its id, which is written into ciphertext headers
+     */
+    public static final class DataKey {
+        private final UUID id;
+        private final UUID projectId;
+        private final SecretKey key;
+
+        public DataKey(UUID id, UUID projectId, SecretKey key) {
+            this.id = id;
+            this.projectId = projectId;
+            this.key = key;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public UUID getProjectId() {
+            return projectId;
+        }
+
+        public SecretKey getKey() {
+            return key;
+        }
+    }
+}
@@ -1,9 +1,57 @@
 package com.secrets.service;
 
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
 public interface EncryptionService {
-    
+
     String encrypt(String plainText);
-    
+
+    /**
+     * Encrypt with the project's data key (envelope encryption)
+     */
+    String encrypt(UUID projectId, String plainText);
+
+    /**
+     * Decrypt any stored format: master-key or data-key envelope
+     */
     String decrypt(String encryptedText);
-}
 
+    /**
+     * Encrypt raw bytes; returns the binary payload without Base64 encoding
+     */
+    byte[] encrypt(byte[] plainText);
+
+    /**
+     * Encrypt raw bytes with the project's data key
+     */
+    byte[] encrypt(UUID projectId, byte[] plainText);
+
+    /**
+     * Decrypt a binary payload produced by {@link #encrypt(byte[])} or {@link #encrypt(UUID, byte[])}
+     */
+    byte[] decrypt(byte[] payload);
+
+    /**
+     * Decrypt the remaining bytes of {@code payload} into {@code output}
+     *
+     * @return number of plaintext bytes written
+     */
+    int decrypt(ByteBuffer payload, ByteBuffer output);
+
+    /**
+     * Decrypt a stored value: the binary payload when present, otherwise the legacy Base64 text
+     */
+    String decryptStored(byte[] payload, String legacyText);
+
+    /**
+     * Whether a stored value is not yet encrypted with the project's active data key,
+     * judged from its header alone (no decryption)
+     */
+    boolean needsReencryption(UUID projectId, String encryptedText);
+
+    /**
+     * Binary variant of {@link #needsReencryption(UUID, String)}
+     */
+    boolean needsReencryption(UUID projectId, byte[] payload);
+}
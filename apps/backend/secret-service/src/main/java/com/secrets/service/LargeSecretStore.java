@@ -0,0 +1,277 @@
+package com.secrets.service;
+
+import com.secrets.entity.SecretBlob;
+import com.secrets.exception.SecretNotFoundException;
+import com.secrets.exception.SecretValueTooLargeException;
+import com.secrets.repository.SecretBlobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterOutputStream;
+
+/**
+ * Streaming storage for large secret values (certificates, kubeconfigs, service-account files).
+ *
+ * Uploads are deflated on the fly and cut into fixed-size chunks; each chunk is encrypted
+ * with the project's data key and inserted as soon as it is full, outside any caller
+ * transaction, so a slow upload never holds a database transaction open. Every chunk's plaintext
+ * starts with {@code blob id || chunk index || last flag}, so GCM also authenticates the
+ * chunk's position and a reordered or truncated blob fails to read. Downloads decrypt one
+ * chunk at a time and inflate straight into the response, so neither direction holds more
+ * than one chunk of the value in memory.
+ */
+@Service
+public class LargeSecretStore {
+
+    // blob id (16) + chunk index (4) + last-chunk flag (1)
+    static final int CHUNK_HEADER_LENGTH = 21;
+
+    private static final String INSERT_CHUNK_SQL =
+        "INSERT INTO secret_blob_chunks (id, blob_id, chunk_index, encrypted_chunk) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_CHUNK_SQL =
+        "SELECT encrypted_chunk FROM secret_blob_chunks WHERE blob_id = ? AND chunk_index = ?";
+
+    private static final String UNREFERENCED =
+        "NOT EXISTS (SELECT 1 FROM secrets WHERE blob_id = ?) " +
+            "AND NOT EXISTS (SELECT 1 FROM secret_versions WHERE blob_id = ?)";
+
+    private static final String DELETE_CHUNKS_SQL =
+        "DELETE FROM secret_blob_chunks WHERE blob_id = ? AND " + UNREFERENCED;
+
+    private static final String DELETE_BLOB_SQL =
+        "DELETE FROM secret_blobs WHERE id = ? AND " + UNREFERENCED;
+
+    private final SecretBlobRepository blobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EncryptionService encryptionService;
+
+    @Value("${app.large-values.max-size:10MB}")
+    private DataSize maxSize;
+
+    @Value("${app.large-values.chunk-size:256KB}")
+    private DataSize chunkSize;
+
+    @Value("${app.large-values.compression-level:6}")
+    private int compressionLevel;
+
+    public LargeSecretStore(SecretBlobRepository blobRepository,
+                            JdbcTemplate jdbcTemplate,
+                            EncryptionService encryptionService) {
+        this.blobRepository = blobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.encryptionService = encryptionService;
+    }
+
+    /**
+     * Compress, chunk and encrypt a value read from {@code content}. Call it outside a
+     * transaction: every chunk commits on its own, and a rejected or failed upload deletes
+     * what it already wrote. The blob stays unreferenced until a secret row points at it;
+     * callers that fail to save that row must {@link #deleteUnreferenced} it.
+     */
+    public SecretBlob write(UUID projectId, InputStream content) throws IOException {
+        SecretBlob blob = new SecretBlob();
+        blob.setProjectId(projectId);
+        // Flush now: chunk rows reference the blob row
+        blob = blobRepository.saveAndFlush(blob);
+        try {
+            return writeChunks(blob, content);
+        } catch (IOException | RuntimeException e) {
+            deleteUnreferenced(List.of(blob.getId()));
+            throw e;
+        }
+    }
+
+    private SecretBlob writeChunks(SecretBlob blob, InputStream content) throws IOException {
+        UUID projectId = blob.getProjectId();
+        ChunkWriter chunks = new ChunkWriter(blob.getId(), projectId, (int) chunkSize.toBytes());
+        Deflater deflater = new Deflater(compressionLevel);
+        long plaintextSize = 0;
+        byte[] buffer = new byte[8192];
+        try {
+            DeflaterOutputStream compressed = new DeflaterOutputStream(chunks, deflater, buffer.length);
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                plaintextSize += read;
+                if (plaintextSize > maxSize.toBytes()) {
+                    throw new SecretValueTooLargeException(
+                        "Secret value exceeds the maximum size of " + maxSize.toBytes() + " bytes");
+                }
+                compressed.write(buffer, 0, read);
+            }
+            compressed.finish();
+            chunks.finish();
+        } finally {
+            Arrays.fill(buffer, (byte) 0);
+            deflater.end();
+            chunks.wipe();
+        }
+
+        blob.setPlaintextSize(plaintextSize);
+        blob.setStoredSize(chunks.storedBytes);
+        blob.setChunkCount(chunks.index);
+        return blobRepository.save(blob);
+    }
+
+    /**
+     * Decrypt and inflate a stored value into {@code out}, one chunk at a time
+     */
+    public void read(UUID blobId, OutputStream out) throws IOException {
+        SecretBlob blob = blobRepository.findById(blobId)
+            .orElseThrow(() -> new SecretNotFoundException("Secret value not found"));
+
+        CountingOutputStream counted = new CountingOutputStream(out);
+        Inflater inflater = new Inflater();
+        try {
+            InflaterOutputStream plain = new InflaterOutputStream(counted, inflater);
+            for (int index = 0; index < blob.getChunkCount(); index++) {
+                byte[] sealed = jdbcTemplate.queryForObject(SELECT_CHUNK_SQL, byte[].class, blobId, index);
+                byte[] chunk = encryptionService.decrypt(sealed);
+                try {
+                    verifyHeader(chunk, blobId, index, index == blob.getChunkCount() - 1);
+                    plain.write(chunk, CHUNK_HEADER_LENGTH, chunk.length - CHUNK_HEADER_LENGTH);
+                } finally {
+                    Arrays.fill(chunk, (byte) 0);
+                }
+            }
+            plain.finish();
+        } finally {
+            inflater.end();
+        }
+        if (counted.count != blob.getPlaintextSize()) {
+            throw new IllegalStateException("Stored secret value " + blobId + " is incomplete");
+        }
+    }
+
+    /**
+     * Delete blobs that no secret or version references any more. Pending JPA deletes
+     * must be flushed first, or the rows still count as references.
+     */
+    public void deleteUnreferenced(Collection<UUID> blobIds) {
+        for (UUID blobId : blobIds) {
+            jdbcTemplate.update(DELETE_CHUNKS_SQL, blobId, blobId, blobId);
+            jdbcTemplate.update(DELETE_BLOB_SQL, blobId, blobId, blobId);
+        }
+    }
+
+    private static void verifyHeader(byte[] chunk, UUID blobId, int index, boolean last) {
+        if (chunk.length < CHUNK_HEADER_LENGTH) {
+            throw new IllegalStateException("Stored secret value " + blobId + " has a truncated chunk at " + index);
+        }
+        ByteBuffer header = ByteBuffer.wrap(chunk, 0, CHUNK_HEADER_LENGTH);
+        boolean valid = header.getLong() == blobId.getMostSignificantBits()
+            && header.getLong() == blobId.getLeastSignificantBits()
+            && header.getInt() == index
+            && (header.get() == 1) == last;
+        if (!valid) {
+            throw new IllegalStateException("Stored secret value " + blobId + " has a misplaced chunk at " + index);
+        }
+    }
+
+    /**
+     * Buffers compressed bytes into one chunk, encrypting and inserting it when full.
+     * A full chunk is only written once more data arrives, so the final chunk can be flagged.
+     */
+    private final class ChunkWriter extends OutputStream {
+
+        private final UUID blobId;
+        private final UUID projectId;
+        private final byte[] chunk;
+        private int position = CHUNK_HEADER_LENGTH;
+        private int index;
+        private long storedBytes;
+
+        private ChunkWriter(UUID blobId, UUID projectId, int chunkSize) {
+            this.blobId = blobId;
+            this.projectId = projectId;
+            this.chunk = new byte[CHUNK_HEADER_LENGTH + chunkSize];
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                if (position == chunk.length) {
+                    writeChunk(false);
+                }
+                int count = Math.min(length, chunk.length - position);
+                System.arraycopy(bytes, offset, chunk, position, count);
+                position += count;
+                offset += count;
+                length -= count;
+            }
+        }
+
+        private void finish() {
+            writeChunk(true);
+        }
+
+        private void writeChunk(boolean last) {
+            ByteBuffer.wrap(chunk, 0, CHUNK_HEADER_LENGTH)
+                .putLong(blobId.getMostSignificantBits())
+                .putLong(blobId.getLeastSignificantBits())
+                .putInt(index)
+                .put((byte) (last ? 1 : 0));
+            byte[] plain = position == chunk.length ? chunk : Arrays.copyOf(chunk, position);
+            try {
+                byte[] sealed = encryptionService.encrypt(projectId, plain);
+                jdbcTemplate.update(INSERT_CHUNK_SQL, UUID.randomUUID(), blobId, index, sealed);
+            } finally {
+                if (plain != chunk) {
+                    Arrays.fill(plain, (byte) 0);
+                }
+            }
+            storedBytes += position - CHUNK_HEADER_LENGTH;
+            position = CHUNK_HEADER_LENGTH;
+            index++;
+        }
+
+        private void wipe() {
+            Arrays.fill(chunk, (byte) 0);
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final OutputStream delegate;
+        private long count;
+
+        private CountingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            delegate.write(bytes, offset, length);
+            count += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+    }
+}
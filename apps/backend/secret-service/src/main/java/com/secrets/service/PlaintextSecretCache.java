@@ -0,0 +1,240 @@
+package com.secrets.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.secrets.entity.Project;
+import com.secrets.entity.Secret;
+import com.secrets.repository.ProjectRepository;
+import com.secrets.service.crypto.AesGcm;
+import com.secrets.service.crypto.CiphertextFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in cache of decrypted values for very hot secrets.
+ *
+ * Plaintext is decrypted straight into direct buffers, so the cached copies live outside the
+ * Java heap and do not show up in heap dumps. Each entry remembers the ciphertext it was
+ * built from and is only served for that exact ciphertext. Entries expire after a short TTL,
+ * the whole cache is bounded in bytes, and every removal (expiry, size eviction, explicit
+ * invalidation) overwrites the buffer with zeros before it is released.
+ *
+ * Limitation: callers get the value as a {@code String}, which JSON serialisation needs, so
+ * every hit still puts a copy of the plaintext on the heap for the life of the request; the
+ * temporary byte array is zeroed, the String cannot be. Only the long-lived cached copy is kept
+ * off-heap, which is the same exposure as decrypting per request, not less.
+ *
+ * Only projects with {@code plaintextCacheEnabled} set are cached; everything else is
+ * decrypted per request as before.
+ */
+@Component
+public class PlaintextSecretCache {
+
+    private final EncryptionService encryptionService;
+    private final ProjectRepository projectRepository;
+    private final boolean enabled;
+    private final int maxEntryBytes;
+    private final Cache<String, Entry> entries;
+    private final Cache<UUID, Boolean> projectOptIns;
+    private final AtomicLong cachedBytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public PlaintextSecretCache(EncryptionService encryptionService,
+                                ProjectRepository projectRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.plaintext-cache.enabled:true}") boolean enabled,
+                                @Value("${app.plaintext-cache.ttl:PT30S}") Duration ttl,
+                                @Value("${app.plaintext-cache.max-bytes:4194304}") long maxBytes,
+                                @Value("${app.plaintext-cache.max-entry-bytes:16384}") int maxEntryBytes) {
+        this.encryptionService = encryptionService;
+        this.projectRepository = projectRepository;
+        this.enabled = enabled;
+        this.maxEntryBytes = maxEntryBytes;
+
+        this.hits = Counter.builder("secrets.plaintext.cache.requests")
+            .description("Plaintext cache lookups")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("secrets.plaintext.cache.requests")
+            .description("Plaintext cache lookups")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        this.evictions = Counter.builder("secrets.plaintext.cache.evictions")
+            .description("Plaintext cache entries wiped on expiry or size eviction")
+            .register(meterRegistry);
+
+        // Removal runs on the calling thread and expiry is driven by the system scheduler,
+        // so expired plaintext is wiped promptly even when the cache sees no traffic.
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, Entry entry) -> entry.capacity())
+            .expireAfterWrite(ttl)
+            .scheduler(Scheduler.systemScheduler())
+            .executor(Runnable::run)
+            .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                if (entry != null) {
+                    entry.wipe();
+                    cachedBytes.addAndGet(-entry.capacity());
+                }
+                if (cause.wasEvicted()) {
+                    evictions.increment();
+                }
+            })
+            .build();
+        this.projectOptIns = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(ttl)
+            .build();
+
+        Gauge.builder("secrets.plaintext.cache.bytes", cachedBytes, AtomicLong::get)
+            .description("Off-heap bytes held by the plaintext cache")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Decrypt a secret, serving it from the off-heap cache when its project has opted in
+     */
+    public String decrypt(Secret secret) {
+        if (secret.isLargeValue()) {
+            return null;
+        }
+        byte[] payload = secret.getEncryptedPayload();
+        UUID projectId = secret.getProjectId();
+        if (!enabled || payload == null || projectId == null || !isOptedIn(projectId)) {
+            // Rows still in the legacy text column are not cached until backfilled
+            return encryptionService.decryptStored(payload, secret.getEncryptedValue());
+        }
+
+        String key = cacheKey(projectId, secret.getSecretKey());
+        Entry cached = entries.getIfPresent(key);
+        if (cached != null) {
+            String value = cached.read(payload);
+            if (value != null) {
+                hits.increment();
+                return value;
+            }
+        }
+        misses.increment();
+
+        int plainLength = payload.length - CiphertextFormat.headerLength(payload[0]) - AesGcm.IV_LENGTH - AesGcm.TAG_LENGTH;
+        if (plainLength > maxEntryBytes) {
+            return new String(encryptionService.decrypt(payload), StandardCharsets.UTF_8);
+        }
+
+        ByteBuffer plaintext = ByteBuffer.allocateDirect(Math.max(plainLength, 0));
+        encryptionService.decrypt(ByteBuffer.wrap(payload), plaintext);
+        plaintext.flip();
+        Entry entry = new Entry(payload.clone(), plaintext);
+        String value = entry.read(payload);
+        cachedBytes.addAndGet(entry.capacity());
+        entries.put(key, entry);
+        return value;
+    }
+
+    /**
+     * Drop the cached value of one secret; repeated after commit so a concurrent reader
+     * cannot re-populate it with the old ciphertext
+     */
+    public void invalidate(UUID projectId, String secretKey) {
+        String key = cacheKey(projectId, secretKey);
+        entries.invalidate(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.invalidate(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * Forget the project's opt-in flag and wipe all of its cached values
+     */
+    public void projectSettingsChanged(UUID projectId) {
+        projectOptIns.invalidate(projectId);
+        String prefix = projectId + ":";
+        entries.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        entries.invalidateAll();
+    }
+
+    private boolean isOptedIn(UUID projectId) {
+        return projectOptIns.get(projectId, id -> projectRepository.findById(id)
+            .map(Project::getPlaintextCacheEnabled)
+            .map(Boolean.TRUE::equals)
+            .orElse(false));
+    }
+
+    private static String cacheKey(UUID projectId, String secretKey) {
+        return String.format("%s:%s", projectId, secretKey);
+    }
+
+    /**
+     * One cached value. Reads and wiping are synchronized so a value is never handed out
+     * while, or after, its buffer is being zeroed.
+     */
+    private static final class Entry {
+
+        private final byte[] encryptedPayload;
+        private final ByteBuffer plaintext;
+        private boolean wiped;
+
+        private Entry(byte[] encryptedPayload, ByteBuffer plaintext) {
+            this.encryptedPayload = encryptedPayload;
+            this.plaintext = plaintext;
+        }
+
+        private int capacity() {
+            return plaintext.capacity();
+        }
+
+        /**
+         * Returns the value, or null if the entry was wiped or belongs to another ciphertext.
+         * The returned String is a heap copy (see the class comment).
+         */
+        private synchronized String read(byte[] expectedEncryptedPayload) {
+            if (wiped || !Arrays.equals(encryptedPayload, expectedEncryptedPayload)) {
+                return null;
+            }
+            byte[] bytes = new byte[plaintext.limit()];
+            plaintext.get(0, bytes);
+            try {
+                return new String(bytes, StandardCharsets.UTF_8);
+            } finally {
+                Arrays.fill(bytes, (byte) 0);
+            }
+        }
+
+        private synchronized void wipe() {
+            if (wiped) {
+                return;
+            }
+            for (int i = 0; i < plaintext.capacity(); i++) {
+                plaintext.put(i, (byte) 0);
+            }
+            wiped = true;
+        }
+    }
+}
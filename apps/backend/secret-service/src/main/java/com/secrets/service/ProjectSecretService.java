@@ -1,27 +1,45 @@
 package com.secrets.service;
 
 import com.secrets.client.AuditClient;
+import com.secrets.dto.BulkSecretResponse;
 import com.secrets.dto.SecretRequest;
+import com.secrets.dto.SecretResponse;
 import com.secrets.entity.Secret;
+import com.secrets.entity.SecretBlob;
 import com.secrets.entity.SecretVersion;
 import com.secrets.exception.SecretAlreadyExistsException;
 import com.secrets.exception.SecretNotFoundException;
 import com.secrets.metrics.SecretMetrics;
 import com.secrets.metrics.SecretMetrics.SecretOperation;
 import com.secrets.repository.ProjectRepository;
+import com.secrets.repository.SecretKeyset;
 import com.secrets.repository.SecretRepository;
 import com.secrets.repository.SecretVersionRepository;
+import com.secrets.repository.projection.SecretLocation;
+import com.secrets.repository.projection.SecretMetadata;
+import com.secrets.repository.projection.SecretVersionSummary;
 import com.secrets.service.rotation.DefaultRotationStrategy;
 import com.secrets.service.rotation.SecretRotationStrategy;
+import com.secrets.util.EncryptionUtil;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeParseException;
@@ -48,6 +66,25 @@ public class ProjectSecretService {
     private final UserService userService;
     private final SecretMetrics secretMetrics;
     private final List<SecretRotationStrategy> rotationStrategies;
+    private final SecretCiphertextCache secretCiphertextCache;
+    private final PlaintextSecretCache plaintextSecretCache;
+    private final LargeSecretStore largeSecretStore;
+    private final EncryptionUtil encryptionUtil;
+    private final Validator validator;
+    private final SecretKeyIndex secretKeyIndex;
+    private final SecretRevisionService secretRevisionService;
+    private final SecretChangeLogService secretChangeLogService;
+    private final SecretFingerprintService secretFingerprintService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.secret-list.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.batch-get.max-keys:500}")
+    private int batchGetMaxKeys;
+
+    @Value("${app.bulk-import.max-items:1000}")
+    private int bulkImportMaxItems;
 
     public ProjectSecretService(SecretRepository secretRepository,
                                ProjectRepository projectRepository,
@@ -58,7 +95,17 @@ public class ProjectSecretService {
                                AuditClient auditClient,
                                UserService userService,
                                List<SecretRotationStrategy> rotationStrategies,
-                               SecretMetrics secretMetrics) {
+                               SecretMetrics secretMetrics,
+                               SecretCiphertextCache secretCiphertextCache,
+                               PlaintextSecretCache plaintextSecretCache,
+                               LargeSecretStore largeSecretStore,
+                               EncryptionUtil encryptionUtil,
+                               Validator validator,
+                               SecretKeyIndex secretKeyIndex,
+                               SecretRevisionService secretRevisionService,
+                               SecretChangeLogService secretChangeLogService,
+                               SecretFingerprintService secretFingerprintService,
+                               PlatformTransactionManager transactionManager) {
         this.secretRepository = secretRepository;
         this.projectRepository = projectRepository;
         this.encryptionService = encryptionService;
@@ -69,6 +116,16 @@ public class ProjectSecretService {
         this.userService = userService;
         this.rotationStrategies = rotationStrategies;
         this.secretMetrics = secretMetrics;
+        this.secretCiphertextCache = secretCiphertextCache;
+        this.plaintextSecretCache = plaintextSecretCache;
+        this.largeSecretStore = largeSecretStore;
+        this.encryptionUtil = encryptionUtil;
+        this.validator = validator;
+        this.secretKeyIndex = secretKeyIndex;
+        this.secretRevisionService = secretRevisionService;
+        this.secretChangeLogService = secretChangeLogService;
+        this.secretFingerprintService = secretFingerprintService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -81,6 +138,8 @@ public class ProjectSecretService {
             throw new AccessDeniedException("Access denied to project");
         }
 
+        checkPageSize(pageable.getPageSize());
+
         // Verify project exists
         projectRepository.findById(projectId)
             .orElseThrow(() -> new IllegalArgumentException("Project not found"));
@@ -93,30 +152,200 @@ public class ProjectSecretService {
     }
 
     /**
-     * Get max version numbers for a list of secrets
+     * List secret metadata in a project without loading or decrypting values
      */
     @Transactional(readOnly = true)
-    public java.util.Map<UUID, Integer> getMaxVersionNumbersForSecrets(java.util.List<UUID> secretIds) {
-        java.util.Map<UUID, Integer> versionMap = new java.util.HashMap<>();
-        if (secretIds == null || secretIds.isEmpty()) {
-            return versionMap;
+    public Page<SecretMetadata> listProjectSecretMetadata(UUID projectId, UUID userId, String keyword, Pageable pageable) {
+        // Check access
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
         }
-        for (UUID secretId : secretIds) {
-            if (secretId == null) {
-                continue;
-            }
-            try {
-                Integer versionNumber = secretVersionRepository.findMaxVersionNumberBySecretId(secretId)
-                    .orElse(null);
-                if (versionNumber != null) {
-                    versionMap.put(secretId, versionNumber);
-                }
-            } catch (Exception e) {
-                // Skip if version fetch fails - secret might have no versions yet
-                log.debug("Failed to fetch version for secret {}: {}", secretId, e.getMessage());
-            }
+
+        checkPageSize(pageable.getPageSize());
+
+        // Verify project exists
+        projectRepository.findById(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+
+        if (keyword != null && !keyword.trim().isEmpty()) {
+            return secretRepository.findMetadataByProjectIdAndKeyword(projectId, keyword.trim(), pageable);
+        } else {
+            return secretRepository.findMetadataByProjectId(projectId, pageable);
+        }
+    }
+
+    /**
+     * List up to {@code size + 1} secrets after a keyset position; the extra row only
+     * tells the caller whether another page exists
+     */
+    @Transactional(readOnly = true)
+    public List<Secret> scrollProjectSecrets(UUID projectId, UUID userId, String keyword, SecretKeyset keyset, int size) {
+        checkScrollAccess(projectId, userId, size);
+        return secretRepository.findSecretsAfter(projectId, normalizeKeyword(keyword), keyset, size + 1);
+    }
+
+    /**
+     * Metadata variant of {@link #scrollProjectSecrets}
+     */
+    @Transactional(readOnly = true)
+    public List<SecretMetadata> scrollProjectSecretMetadata(UUID projectId, UUID userId, String keyword,
+                                                            SecretKeyset keyset, int size) {
+        checkScrollAccess(projectId, userId, size);
+        return secretRepository.findMetadataAfter(projectId, normalizeKeyword(keyword), keyset, size + 1);
+    }
+
+    /**
+     * Ranked search over secret keys and descriptions; metadata only, best matches first
+     */
+    @Transactional(readOnly = true)
+    public List<SecretMetadata> searchProjectSecretMetadata(UUID projectId, UUID userId, String term, int size) {
+        checkScrollAccess(projectId, userId, size);
+        String normalized = normalizeKeyword(term);
+        if (normalized == null) {
+            return List.of();
+        }
+        return secretRepository.searchMetadata(projectId, normalized, size);
+    }
+
+    /**
+     * Key suggestions for typeahead, served from the in-memory key index; no transaction is
+     * opened, so a keystroke only reaches the database when a project is first loaded
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<String> suggestSecretKeys(UUID projectId, UUID userId, String query, int limit) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        checkPageSize(limit);
+        return secretKeyIndex.suggest(projectId, query.trim(), limit);
+    }
+
+    /**
+     * Current secret revision of a project, for conditional reads
+     */
+    @Transactional(readOnly = true)
+    public long getSecretRevision(UUID projectId, UUID userId) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        return secretRevisionService.current(projectId);
+    }
+
+    /**
+     * Keys changed or deleted since a revision, with the current rows of the changed ones.
+     * Changed keys whose row is gone by the time it is read are reported as deleted. At most
+     * the max page size of changed secrets is returned per call, as for listings; the rest
+     * follows from the returned revision.
+     */
+    @Transactional(readOnly = true)
+    public SecretChanges getSecretChanges(UUID projectId, UUID userId, long sinceRevision) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+
+        SecretChangeLogService.ChangeSet changeSet =
+            secretChangeLogService.changesSince(projectId, sinceRevision, maxPageSize);
+        List<Secret> secrets = changeSet.getChangedKeys().isEmpty()
+            ? List.of()
+            : secretRepository.findByProjectIdAndSecretKeyIn(projectId, changeSet.getChangedKeys());
+        List<String> deletedKeys = new java.util.ArrayList<>(changeSet.getDeletedKeys());
+        if (secrets.size() < changeSet.getChangedKeys().size()) {
+            java.util.Set<String> found = new java.util.HashSet<>();
+            secrets.forEach(secret -> found.add(secret.getSecretKey()));
+            changeSet.getChangedKeys().stream().filter(key -> !found.contains(key)).forEach(deletedKeys::add);
+        }
+
+        if (!secrets.isEmpty()) {
+            java.util.Map<String, Object> metadata = new java.util.HashMap<>();
+            metadata.put("sinceRevision", sinceRevision);
+            metadata.put("revision", changeSet.getRevision());
+            metadata.put("secretKeys", secrets.stream().map(Secret::getSecretKey).toList());
+            auditClient.logEvent(projectId, userId, "SECRET_DELTA_READ", "SECRET", null, null, metadata);
+            secrets.forEach(secret -> secretMetrics.recordOperation(SecretOperation.READ));
+        }
+        return new SecretChanges(changeSet.getRevision(), changeSet.isResyncRequired(), changeSet.isHasMore(),
+            secrets, deletedKeys);
+    }
+
+    /**
+     * Other secrets, in projects the caller can view, that hold the same value as this one.
+     * Matched on value fingerprints, so nothing is decrypted; large values and rows without a
+     * fingerprint yet match nothing.
+     */
+    @Transactional(readOnly = true)
+    public List<SecretLocation> findSecretsWithSameValue(UUID projectId, String secretKey, UUID userId) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        Secret secret = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey)
+            .orElseThrow(() -> new SecretNotFoundException("Secret not found"));
+        if (secret.getValueFingerprint() == null) {
+            return List.of();
+        }
+
+        List<SecretLocation> locations = secretRepository.findLocationsByValueFingerprint(
+            secret.getValueFingerprint(), secret.getId(), userId, PageRequest.of(0, maxPageSize));
+
+        auditClient.logSecretEvent(projectId, userId, "SECRET_SAME_VALUE_LOOKUP", secretKey);
+        return locations;
+    }
+
+    /**
+     * Result of {@link #getSecretChanges}
+     */
+    public static final class SecretChanges {
+
+        private final long revision;
+        private final boolean resyncRequired;
+        private final boolean hasMore;
+        private final List<Secret> changed;
+        private final List<String> deletedKeys;
+
+        private SecretChanges(long revision, boolean resyncRequired, boolean hasMore,
+                              List<Secret> changed, List<String> deletedKeys) {
+            this.revision = revision;
+            this.resyncRequired = resyncRequired;
+            this.hasMore = hasMore;
+            this.changed = changed;
+            this.deletedKeys = deletedKeys;
+        }
+
+        public long getRevision() {
+            return revision;
+        }
+
+        public boolean isResyncRequired() {
+            return resyncRequired;
+        }
+
+        public boolean isHasMore() {
+            return hasMore;
+        }
+
+        public List<Secret> getChanged() {
+            return changed;
+        }
+
+        public List<String> getDeletedKeys() {
+            return deletedKeys;
+        }
+    }
+
+    /**
+     * Number of secrets matching a listing; only computed when a client asks for it
+     */
+    @Transactional(readOnly = true)
+    public long countProjectSecrets(UUID projectId, String keyword, UUID userId) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+
+        String normalized = normalizeKeyword(keyword);
+        if (normalized == null) {
+            Long count = secretRepository.countByProjectId(projectId);
+            return count != null ? count : 0;
         }
-        return versionMap;
+        return secretRepository.countByProjectIdAndKeyword(projectId, normalized);
     }
 
     /**
@@ -129,7 +358,7 @@ public class ProjectSecretService {
             throw new AccessDeniedException("Access denied to project");
         }
 
-        Secret secret = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey)
+        Secret secret = secretCiphertextCache.find(projectId, secretKey)
             .orElseThrow(() -> new SecretNotFoundException("Secret not found"));
 
         // Audit log
@@ -139,6 +368,35 @@ public class ProjectSecretService {
         return secret;
     }
 
+    /**
+     * Get many secrets of a project with one access check, one query and one audit event.
+     * Keys that do not exist are left out; duplicates in {@code secretKeys} are ignored.
+     */
+    @Transactional(readOnly = true)
+    public List<Secret> getProjectSecrets(UUID projectId, java.util.Collection<String> secretKeys, UUID userId) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        if (secretKeys.size() > batchGetMaxKeys) {
+            throw new IllegalArgumentException("Batch get is limited to " + batchGetMaxKeys + " keys per request");
+        }
+        if (secretKeys.isEmpty()) {
+            return List.of();
+        }
+
+        List<Secret> secrets = secretRepository.findByProjectIdAndSecretKeyIn(projectId, secretKeys);
+
+        if (!secrets.isEmpty()) {
+            java.util.Map<String, Object> metadata = new java.util.HashMap<>();
+            metadata.put("count", secrets.size());
+            metadata.put("secretKeys", secrets.stream().map(Secret::getSecretKey).toList());
+            auditClient.logEvent(projectId, userId, "SECRET_BATCH_READ", "SECRET", null, null, metadata);
+        }
+
+        secrets.forEach(secret -> secretMetrics.recordOperation(SecretOperation.READ));
+        return secrets;
+    }
+
     /**
      * Create a secret in a project
      */
@@ -157,20 +415,22 @@ public class ProjectSecretService {
             throw new SecretAlreadyExistsException("Secret with key '" + request.getKey() + "' already exists in this project");
         }
 
-        String encryptedValue = encryptionService.encrypt(request.getValue());
+        byte[] encryptedPayload = encryptionService.encrypt(projectId, request.getValue().getBytes(StandardCharsets.UTF_8));
 
         Secret secret = new Secret();
         secret.setProjectId(projectId);
         secret.setSecretKey(request.getKey());
-        secret.setEncryptedValue(encryptedValue);
+        secret.replaceCiphertext(encryptedPayload, secretFingerprintService.fingerprint(request.getValue()));
         secret.setDescription(normalizeDescription(request.getDescription()));
         secret.setExpiresAt(parseTimestamp(request.getExpiresAt()));
         secret.setCreatedBy(userId);
 
         Secret saved = secretRepository.save(secret);
+        secretKeyIndex.added(projectId, saved.getSecretKey());
+        secretsChanged(projectId, List.of(saved.getSecretKey()));
 
         // Create initial version
-        secretVersionService.createVersion(saved, userId, "Initial version");
+        secretVersionService.createInitialVersion(saved, userId, "Initial version");
 
         // Audit log
         auditClient.logSecretEvent(projectId, userId, "SECRET_CREATE", request.getKey());
@@ -180,6 +440,103 @@ public class ProjectSecretService {
         return saved;
     }
 
+    /**
+     * Create many secrets in one transaction. Permission and project checks run once,
+     * existing keys are found with a single IN query, values are encrypted in parallel and
+     * rows are inserted through Hibernate JDBC batching. Invalid or conflicting items are
+     * reported per key and do not stop the rest of the import.
+     */
+    public BulkSecretResponse bulkCreateProjectSecrets(UUID projectId, List<SecretRequest> requests,
+                                                       List<BulkSecretResponse.BulkError> parseErrors, UUID userId) {
+        if (!permissionService.canCreateSecrets(projectId, userId)) {
+            throw new AccessDeniedException("You don't have permission to create secrets in this project");
+        }
+        projectRepository.findById(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+        if (requests.size() > bulkImportMaxItems) {
+            throw new IllegalArgumentException("Bulk import is limited to " + bulkImportMaxItems + " secrets per request");
+        }
+
+        List<BulkSecretResponse.BulkError> errors = new java.util.ArrayList<>(parseErrors);
+        java.util.Set<String> seenKeys = new java.util.HashSet<>();
+        java.util.Map<String, SecretRequest> valid = new java.util.LinkedHashMap<>();
+        java.util.Map<String, LocalDateTime> expiries = new java.util.HashMap<>();
+        for (SecretRequest request : requests) {
+            java.util.Set<ConstraintViolation<SecretRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                errors.add(bulkError(request.getKey(), "VALIDATION_ERROR", violations.iterator().next().getMessage()));
+                continue;
+            }
+            if (!seenKeys.add(request.getKey())) {
+                errors.add(bulkError(request.getKey(), "DUPLICATE_KEY", "Key appears more than once in the import"));
+                continue;
+            }
+            try {
+                expiries.put(request.getKey(), parseTimestamp(request.getExpiresAt()));
+            } catch (DateTimeParseException e) {
+                errors.add(bulkError(request.getKey(), "VALIDATION_ERROR", "Invalid expiresAt: " + request.getExpiresAt()));
+                continue;
+            }
+            valid.put(request.getKey(), request);
+        }
+
+        if (!valid.isEmpty()) {
+            for (String existing : secretRepository.findExistingSecretKeys(projectId, valid.keySet())) {
+                valid.remove(existing);
+                errors.add(bulkError(existing, "SECRET_EXISTS",
+                    "Secret with key '" + existing + "' already exists in this project"));
+            }
+        }
+
+        List<Secret> secrets = new java.util.ArrayList<>(valid.size());
+        List<SecretRequest> accepted = new java.util.ArrayList<>(valid.values());
+        List<byte[]> payloads = encryptionUtil.encryptAll(projectId,
+            accepted.stream().map(SecretRequest::getValue).toList());
+        for (int i = 0; i < accepted.size(); i++) {
+            SecretRequest request = accepted.get(i);
+            Secret secret = new Secret();
+            secret.setProjectId(projectId);
+            secret.setSecretKey(request.getKey());
+            secret.replaceCiphertext(payloads.get(i), secretFingerprintService.fingerprint(request.getValue()));
+            secret.setDescription(normalizeDescription(request.getDescription()));
+            secret.setExpiresAt(expiries.get(request.getKey()));
+            secret.setCreatedBy(userId);
+            secrets.add(secret);
+        }
+
+        List<SecretResponse> created = new java.util.ArrayList<>(secrets.size());
+        if (!secrets.isEmpty()) {
+            secretRepository.saveAll(secrets);
+            secretKeyIndex.addedAll(projectId, valid.keySet());
+            secretsChanged(projectId, valid.keySet());
+            // Secrets first so the batched version inserts satisfy their foreign key
+            secretRepository.flush();
+            secretVersionRepository.saveAll(secrets.stream()
+                .map(secret -> secretVersionService.initialVersion(secret, userId))
+                .toList());
+
+            java.util.Map<String, Object> metadata = new java.util.HashMap<>();
+            metadata.put("count", secrets.size());
+            metadata.put("secretKeys", secrets.stream().map(Secret::getSecretKey).toList());
+            auditClient.logEvent(projectId, userId, "SECRET_BULK_CREATE", "SECRET", null, null, metadata);
+
+            for (Secret secret : secrets) {
+                created.add(SecretResponse.from(secret, null));
+                secretMetrics.recordOperation(SecretOperation.CREATE);
+            }
+        }
+
+        log.info("Bulk imported {} of {} secrets into project {}", secrets.size(),
+            requests.size() + parseErrors.size(), projectId);
+        return BulkSecretResponse.builder()
+            .total(requests.size() + parseErrors.size())
+            .successful(created.size())
+            .failed(errors.size())
+            .created(created)
+            .errors(errors)
+            .build();
+    }
+
     /**
      * Update a secret in a project
      */
@@ -192,20 +549,30 @@ public class ProjectSecretService {
         Secret secret = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey)
             .orElseThrow(() -> new SecretNotFoundException("Secret not found"));
 
-        String oldEncryptedValue = secret.getEncryptedValue();
-        String encryptedValue = encryptionService.encrypt(request.getValue());
-        boolean valueChanged = !encryptedValue.equals(oldEncryptedValue);
-        
-        secret.setEncryptedValue(encryptedValue);
-        secret.setUpdatedBy(userId);
-        if (request.getDescription() != null) {
-            secret.setDescription(normalizeDescription(request.getDescription()));
+        // Ciphertexts always differ (random IV), so compare keyed fingerprints of the plaintext
+        byte[] fingerprint = secretFingerprintService.fingerprint(request.getValue());
+        boolean valueChanged = !SecretFingerprintService.matches(secret.getValueFingerprint(), fingerprint);
+        String description = request.getDescription() != null
+            ? normalizeDescription(request.getDescription()) : secret.getDescription();
+        LocalDateTime expiresAt = request.getExpiresAt() != null
+            ? parseTimestamp(request.getExpiresAt()) : secret.getExpiresAt();
+        if (!valueChanged && java.util.Objects.equals(description, secret.getDescription())
+                && java.util.Objects.equals(expiresAt, secret.getExpiresAt())) {
+            log.debug("Update of secret {} in project {} changed nothing; skipped", secretKey, projectId);
+            return secret;
         }
-        if (request.getExpiresAt() != null) {
-            secret.setExpiresAt(parseTimestamp(request.getExpiresAt()));
+
+        if (valueChanged) {
+            byte[] encryptedPayload = encryptionService.encrypt(projectId, request.getValue().getBytes(StandardCharsets.UTF_8));
+            secret.replaceCiphertext(encryptedPayload, fingerprint);
         }
+        secret.setUpdatedBy(userId);
+        secret.setDescription(description);
+        secret.setExpiresAt(expiresAt);
 
         Secret saved = secretRepository.save(secret);
+        evictCachedSecret(projectId, secretKey);
+        secretsChanged(projectId, List.of(secretKey));
 
         // Create new version only if the value actually changed
         if (valueChanged) {
@@ -227,6 +594,91 @@ public class ProjectSecretService {
         return saved;
     }
 
+    /**
+     * Create or replace a large-value secret from a stream. The value is compressed and
+     * stored in encrypted chunks; it is never held in memory as a whole. The upload runs
+     * outside any transaction and only the secret row is saved in a short one at the end.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Secret writeLargeProjectSecret(UUID projectId, String secretKey, InputStream content,
+                                          String description, String expiresAt, UUID userId) throws IOException {
+        if (!StringUtils.hasText(secretKey) || secretKey.length() > 255) {
+            throw new IllegalArgumentException("Secret key must be between 1 and 255 characters");
+        }
+        String normalizedDescription = description != null ? normalizeDescription(description) : null;
+        LocalDateTime expiry = expiresAt != null ? parseTimestamp(expiresAt) : null;
+
+        // Before any lookup, so callers without access cannot probe for projects or keys
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+
+        // Verify project exists
+        projectRepository.findById(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+
+        boolean exists = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey).isPresent();
+        checkLargeValueWrite(projectId, !exists, userId);
+
+        SecretBlob blob = largeSecretStore.write(projectId, content);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                // Looked up again: the key may have been created or deleted during the upload
+                Secret secret = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey).orElse(null);
+                boolean created = secret == null;
+                if (created == exists) {
+                    checkLargeValueWrite(projectId, created, userId);
+                }
+                if (created) {
+                    secret = new Secret();
+                    secret.setProjectId(projectId);
+                    secret.setSecretKey(secretKey);
+                    secret.setCreatedBy(userId);
+                } else {
+                    secret.setUpdatedBy(userId);
+                }
+                secret.replaceLargeValue(blob.getId(), blob.getPlaintextSize());
+                if (normalizedDescription != null) {
+                    secret.setDescription(normalizedDescription);
+                }
+                if (expiry != null) {
+                    secret.setExpiresAt(expiry);
+                }
+
+                Secret saved = secretRepository.save(secret);
+                evictCachedSecret(projectId, secretKey);
+                secretsChanged(projectId, List.of(secretKey));
+                if (created) {
+                    secretKeyIndex.added(projectId, secretKey);
+                    secretVersionService.createInitialVersion(saved, userId, "Initial version");
+                } else {
+                    secretVersionService.createVersion(saved, userId, "Secret value updated");
+                }
+
+                auditClient.logSecretEvent(projectId, userId, created ? "SECRET_CREATE" : "SECRET_UPDATE", secretKey);
+
+                log.info("Stored large value for secret {} in project {} ({} bytes, {} chunks)",
+                    secretKey, projectId, blob.getPlaintextSize(), blob.getChunkCount());
+                secretMetrics.recordOperation(created ? SecretOperation.CREATE : SecretOperation.UPDATE);
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            // The row was never committed, so nothing references the uploaded chunks
+            largeSecretStore.deleteUnreferenced(List.of(blob.getId()));
+            throw e;
+        }
+    }
+
+    private void checkLargeValueWrite(UUID projectId, boolean create, UUID userId) {
+        if (create && !permissionService.canCreateSecrets(projectId, userId)) {
+            throw new AccessDeniedException("You don't have permission to create secrets in this project");
+        }
+        if (!create && !permissionService.canUpdateSecrets(projectId, userId)) {
+            throw new AccessDeniedException("You don't have permission to update secrets in this project");
+        }
+    }
+
     /**
      * Delete a secret from a project
      */
@@ -239,11 +691,24 @@ public class ProjectSecretService {
         Secret secret = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey)
             .orElseThrow(() -> new SecretNotFoundException("Secret not found"));
 
+        // Large values may be shared with copies, so only unreferenced blobs are removed
+        java.util.Set<UUID> blobIds = new java.util.HashSet<>(secretVersionRepository.findBlobIdsBySecretId(secret.getId()));
+        if (secret.getBlobId() != null) {
+            blobIds.add(secret.getBlobId());
+        }
+
         // Delete all versions
         secretVersionRepository.deleteBySecretId(secret.getId());
 
         // Delete the secret
         secretRepository.delete(secret);
+        evictCachedSecret(projectId, secretKey);
+        secretKeyIndex.removed(projectId, secretKey);
+        secretDeleted(projectId, secretKey);
+        if (!blobIds.isEmpty()) {
+            secretRepository.flush();
+            largeSecretStore.deleteUnreferenced(blobIds);
+        }
 
         // Audit log
         auditClient.logSecretEvent(projectId, userId, "SECRET_DELETE", secretKey);
@@ -265,17 +730,23 @@ public class ProjectSecretService {
         Secret secret = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey)
             .orElseThrow(() -> new SecretNotFoundException("Secret not found"));
 
+        if (secret.isLargeValue()) {
+            throw new IllegalStateException("Large-value secrets cannot be rotated; upload a new value instead");
+        }
+
         // Generate new value using context-aware rotation strategy
-        String currentValue = encryptionService.decrypt(secret.getEncryptedValue());
+        String currentValue = encryptionService.decryptStored(secret.getEncryptedPayload(), secret.getEncryptedValue());
         SecretRotationStrategy strategy = resolveRotationStrategy(secret);
         String newValue = strategy.rotate(currentValue);
-        String encryptedValue = encryptionService.encrypt(newValue);
+        byte[] encryptedPayload = encryptionService.encrypt(projectId, newValue.getBytes(StandardCharsets.UTF_8));
 
-        secret.setEncryptedValue(encryptedValue);
+        secret.replaceCiphertext(encryptedPayload, secretFingerprintService.fingerprint(newValue));
         secret.setUpdatedBy(userId);
         secret.setLastRotatedAt(java.time.LocalDateTime.now());
 
         Secret saved = secretRepository.save(secret);
+        evictCachedSecret(projectId, secretKey);
+        secretsChanged(projectId, List.of(secretKey));
 
         // Create new version
         secretVersionService.createVersion(saved, userId, "Secret rotated");
@@ -315,6 +786,17 @@ public class ProjectSecretService {
         secret.setProjectId(targetProjectId);
         secret.setUpdatedBy(userId);
         Secret saved = secretRepository.save(secret);
+        evictCachedSecret(sourceProjectId, secretKey);
+        secretKeyIndex.removed(sourceProjectId, secretKey);
+        secretKeyIndex.added(targetProjectId, secretKey);
+        // Bumps run in request order at commit; a fixed order keeps opposite moves from deadlocking
+        if (sourceProjectId.compareTo(targetProjectId) < 0) {
+            secretDeleted(sourceProjectId, secretKey);
+            secretsChanged(targetProjectId, List.of(secretKey));
+        } else {
+            secretsChanged(targetProjectId, List.of(secretKey));
+            secretDeleted(sourceProjectId, secretKey);
+        }
 
         // Audit log - use source project ID for move operation
         auditClient.logSecretEvent(sourceProjectId, userId, "SECRET_MOVE", secretKey);
@@ -351,15 +833,21 @@ public class ProjectSecretService {
         Secret copiedSecret = new Secret();
         copiedSecret.setProjectId(targetProjectId);
         copiedSecret.setSecretKey(targetKey);
-        copiedSecret.setEncryptedValue(sourceSecret.getEncryptedValue()); // Same encrypted value
+        copiedSecret.setEncryptedPayload(sourceSecret.getEncryptedPayload()); // Same encrypted value
+        copiedSecret.setEncryptedValue(sourceSecret.getEncryptedValue());
+        copiedSecret.setBlobId(sourceSecret.getBlobId()); // Blobs are immutable and shared
+        copiedSecret.setValueSize(sourceSecret.getValueSize());
+        copiedSecret.setValueFingerprint(sourceSecret.getValueFingerprint());
         copiedSecret.setDescription(sourceSecret.getDescription());
         copiedSecret.setCreatedBy(userId);
         copiedSecret.setExpiresAt(sourceSecret.getExpiresAt());
 
         Secret saved = secretRepository.save(copiedSecret);
+        secretKeyIndex.added(targetProjectId, targetKey);
+        secretsChanged(targetProjectId, List.of(targetKey));
 
         // Create initial version
-        secretVersionService.createVersion(saved, userId, 
+        secretVersionService.createInitialVersion(saved, userId,
             String.format("Copied from project %s", sourceProjectId));
 
         // Audit log - use source project ID for copy operation
@@ -370,10 +858,162 @@ public class ProjectSecretService {
     }
 
     /**
-     * Get version history for a secret
+     * Move many secrets to another project. Permissions are checked once for the project pair,
+     * missing and conflicting keys are found with a single query and reported per key, and the
+     * rest are re-parented with one UPDATE; their versions follow by secret id.
+     */
+    public BulkSecretResponse bulkMoveSecrets(UUID sourceProjectId, List<String> secretKeys,
+                                              UUID targetProjectId, UUID userId) {
+        checkBulkTransfer(sourceProjectId, secretKeys, targetProjectId, userId, "move");
+        List<BulkSecretResponse.BulkError> errors = new java.util.ArrayList<>();
+        java.util.Set<String> keys = transferableKeys(sourceProjectId, secretKeys, targetProjectId, errors);
+
+        List<SecretResponse> moved = List.of();
+        if (!keys.isEmpty()) {
+            secretRepository.moveSecrets(sourceProjectId, targetProjectId, keys, userId, LocalDateTime.now());
+            keys.forEach(key -> evictCachedSecret(sourceProjectId, key));
+            secretKeyIndex.removedAll(sourceProjectId, keys);
+            secretKeyIndex.addedAll(targetProjectId, keys);
+            // Bumps run in request order at commit; a fixed order keeps opposite moves from deadlocking
+            if (sourceProjectId.compareTo(targetProjectId) < 0) {
+                secretsDeleted(sourceProjectId, keys);
+                secretsChanged(targetProjectId, keys);
+            } else {
+                secretsChanged(targetProjectId, keys);
+                secretsDeleted(sourceProjectId, keys);
+            }
+            moved = transferredSecrets(targetProjectId, keys);
+            auditBulkTransfer(sourceProjectId, targetProjectId, keys, userId, "SECRET_BULK_MOVE");
+        }
+
+        log.info("Bulk moved {} of {} secrets from project {} to {}", keys.size(), secretKeys.size(),
+            sourceProjectId, targetProjectId);
+        return bulkTransferResponse(secretKeys.size(), moved, errors);
+    }
+
+    /**
+     * Copy many secrets to another project under the same keys. Checks run as for
+     * {@link #bulkMoveSecrets}; the copies are written with one INSERT ... SELECT that reuses the
+     * stored ciphertext without decrypting it, and their first versions with a second one.
+     */
+    public BulkSecretResponse bulkCopySecrets(UUID sourceProjectId, List<String> secretKeys,
+                                              UUID targetProjectId, UUID userId) {
+        checkBulkTransfer(sourceProjectId, secretKeys, targetProjectId, userId, "copy");
+        List<BulkSecretResponse.BulkError> errors = new java.util.ArrayList<>();
+        java.util.Set<String> keys = transferableKeys(sourceProjectId, secretKeys, targetProjectId, errors);
+
+        List<SecretResponse> copied = List.of();
+        if (!keys.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            secretRepository.copySecrets(sourceProjectId, targetProjectId, keys, userId, now);
+            secretVersionRepository.insertInitialVersions(targetProjectId, keys, userId,
+                String.format("Copied from project %s", sourceProjectId), now);
+            secretKeyIndex.addedAll(targetProjectId, keys);
+            secretsChanged(targetProjectId, keys);
+            copied = transferredSecrets(targetProjectId, keys);
+            auditBulkTransfer(sourceProjectId, targetProjectId, keys, userId, "SECRET_BULK_COPY");
+        }
+
+        log.info("Bulk copied {} of {} secrets from project {} to {}", keys.size(), secretKeys.size(),
+            sourceProjectId, targetProjectId);
+        return bulkTransferResponse(secretKeys.size(), copied, errors);
+    }
+
+    private void checkBulkTransfer(UUID sourceProjectId, List<String> secretKeys, UUID targetProjectId,
+                                   UUID userId, String action) {
+        if (!permissionService.canMoveSecrets(sourceProjectId, userId)) {
+            throw new AccessDeniedException("You don't have permission to " + action + " secrets from this project");
+        }
+        if (!permissionService.isMemberOrHigher(targetProjectId, userId)) {
+            throw new AccessDeniedException("You don't have access to the target project");
+        }
+        if (sourceProjectId.equals(targetProjectId)) {
+            throw new IllegalArgumentException("Target project must differ from the source project");
+        }
+        if (secretKeys.size() > bulkImportMaxItems) {
+            throw new IllegalArgumentException("Bulk " + action + " is limited to " + bulkImportMaxItems
+                + " secrets per request");
+        }
+    }
+
+    /**
+     * Requested keys that exist in the source and are free in the target, found with one query
+     * over both projects; every other key is added to {@code errors}
+     */
+    private java.util.Set<String> transferableKeys(UUID sourceProjectId, List<String> secretKeys,
+                                                   UUID targetProjectId,
+                                                   List<BulkSecretResponse.BulkError> errors) {
+        java.util.Set<String> requested = new java.util.LinkedHashSet<>();
+        for (String key : secretKeys) {
+            if (key == null || key.isBlank()) {
+                errors.add(bulkError(key, "VALIDATION_ERROR", "Key is required"));
+            } else if (!requested.add(key)) {
+                errors.add(bulkError(key, "DUPLICATE_KEY", "Key appears more than once in the request"));
+            }
+        }
+        if (requested.isEmpty()) {
+            return requested;
+        }
+
+        java.util.Set<String> inSource = new java.util.HashSet<>();
+        java.util.Set<String> inTarget = new java.util.HashSet<>();
+        for (Object[] row : secretRepository.findSecretKeysInProjects(
+                List.of(sourceProjectId, targetProjectId), requested)) {
+            (sourceProjectId.equals(row[0]) ? inSource : inTarget).add((String) row[1]);
+        }
+
+        java.util.Set<String> transferable = new java.util.LinkedHashSet<>();
+        for (String key : requested) {
+            if (!inSource.contains(key)) {
+                errors.add(bulkError(key, "SECRET_NOT_FOUND", "Secret not found"));
+            } else if (inTarget.contains(key)) {
+                errors.add(bulkError(key, "SECRET_EXISTS",
+                    "Secret with key '" + key + "' already exists in target project"));
+            } else {
+                transferable.add(key);
+            }
+        }
+        return transferable;
+    }
+
+    private List<SecretResponse> transferredSecrets(UUID targetProjectId, java.util.Set<String> keys) {
+        return secretRepository.findByProjectIdAndSecretKeyIn(targetProjectId, keys).stream()
+            .sorted(java.util.Comparator.comparing(Secret::getSecretKey))
+            .map(secret -> SecretResponse.from(secret, null))
+            .toList();
+    }
+
+    /**
+     * One summary audit event for the whole request, logged against the source project
+     */
+    private void auditBulkTransfer(UUID sourceProjectId, UUID targetProjectId, java.util.Set<String> keys,
+                                   UUID userId, String eventType) {
+        java.util.Map<String, Object> metadata = new java.util.HashMap<>();
+        metadata.put("count", keys.size());
+        metadata.put("targetProjectId", targetProjectId.toString());
+        metadata.put("secretKeys", List.copyOf(keys));
+        auditClient.logEvent(sourceProjectId, userId, eventType, "SECRET", null, null, metadata);
+    }
+
+    private static BulkSecretResponse bulkTransferResponse(int total, List<SecretResponse> transferred,
+                                                           List<BulkSecretResponse.BulkError> errors) {
+        return BulkSecretResponse.builder()
+            .total(total)
+            .successful(transferred.size())
+            .failed(errors.size())
+            .created(transferred)
+            .errors(errors)
+            .build();
+    }
+
+    /**
+     * Page of a secret's version history, newest first. {@code beforeVersion} is the last
+     * version number of the previous page (null for the first); one extra row is fetched so the
+     * caller can tell whether another page follows.
      */
     @Transactional(readOnly = true)
-    public java.util.List<com.secrets.entity.SecretVersion> getSecretVersions(UUID projectId, String secretKey, UUID userId) {
+    public List<SecretVersionSummary> getSecretVersions(UUID projectId, String secretKey, UUID userId,
+                                                        Integer beforeVersion, int size) {
         // Check access
         if (!permissionService.canViewProject(projectId, userId)) {
             throw new AccessDeniedException("Access denied to project");
@@ -382,7 +1022,13 @@ public class ProjectSecretService {
         Secret secret = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey)
             .orElseThrow(() -> new SecretNotFoundException("Secret not found"));
 
-        return secretVersionRepository.findBySecretIdOrderByVersionNumberDesc(secret.getId());
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize);
+        }
+        Pageable page = PageRequest.of(0, size + 1);
+        return beforeVersion == null
+            ? secretVersionRepository.findSummariesBySecretId(secret.getId(), page)
+            : secretVersionRepository.findSummariesBySecretIdBefore(secret.getId(), beforeVersion, page);
     }
 
     /**
@@ -420,9 +1066,15 @@ public class ProjectSecretService {
                 String.format("Version %d of secret %s not found", versionNumber, secretKey)
             ));
 
+        secret.setEncryptedPayload(targetVersion.getEncryptedPayload());
         secret.setEncryptedValue(targetVersion.getEncryptedValue());
+        secret.setBlobId(targetVersion.getBlobId());
+        secret.setValueSize(targetVersion.getValueSize());
+        secret.setValueFingerprint(targetVersion.getValueFingerprint());
         secret.setUpdatedBy(userId);
         Secret saved = secretRepository.save(secret);
+        evictCachedSecret(projectId, secretKey);
+        secretsChanged(projectId, List.of(secretKey));
 
         secretVersionService.createVersion(saved, userId,
             String.format("Restored to version %d", versionNumber));
@@ -516,6 +1168,34 @@ public class ProjectSecretService {
         }
     }
 
+    private void checkScrollAccess(UUID projectId, UUID userId, int size) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        checkPageSize(size);
+        projectRepository.findById(projectId)
+            .orElseThrow(() -> new IllegalArgumentException("Project not found"));
+    }
+
+    private void checkPageSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize +
+                "; use GET /api/projects/{projectId}/export to read a whole project");
+        }
+    }
+
+    private static String normalizeKeyword(String keyword) {
+        return keyword != null && !keyword.trim().isEmpty() ? keyword.trim() : null;
+    }
+
+    private static BulkSecretResponse.BulkError bulkError(String secretKey, String error, String message) {
+        return BulkSecretResponse.BulkError.builder()
+            .secretKey(secretKey)
+            .error(error)
+            .message(message)
+            .build();
+    }
+
     private String normalizeDescription(String description) {
         if (description == null) {
             return null;
@@ -523,5 +1203,33 @@ public class ProjectSecretService {
         String trimmed = description.trim();
         return trimmed.isEmpty() ? null : trimmed;
     }
-}
 
+    /**
+     * Bump the project's revision and log the keys under it; every write path goes through
+     * this or {@link #secretDeleted}. Both happen just before commit, so the project row lock
+     * is not held across the rest of the write and its audit call.
+     */
+    private void secretsChanged(UUID projectId, java.util.Collection<String> secretKeys) {
+        List<String> keys = List.copyOf(secretKeys);
+        secretRevisionService.bumpBeforeCommit(projectId,
+            revision -> secretChangeLogService.recordChanged(projectId, revision, keys));
+    }
+
+    private void secretDeleted(UUID projectId, String secretKey) {
+        secretsDeleted(projectId, List.of(secretKey));
+    }
+
+    private void secretsDeleted(UUID projectId, java.util.Collection<String> secretKeys) {
+        List<String> keys = List.copyOf(secretKeys);
+        secretRevisionService.bumpBeforeCommit(projectId,
+            revision -> secretChangeLogService.recordDeleted(projectId, revision, keys));
+    }
+
+    /**
+     * Evict a secret from the ciphertext and plaintext caches after any write
+     */
+    private void evictCachedSecret(UUID projectId, String secretKey) {
+        secretCiphertextCache.evict(projectId, secretKey);
+        plaintextSecretCache.invalidate(projectId, secretKey);
+    }
+}
@@ -41,6 +41,7 @@ public class ProjectService {
     private final TeamProjectRepository teamProjectRepository;
     private final TeamRepository teamRepository;
     private final TeamMembershipRepository teamMembershipRepository;
+    private final PlaintextSecretCache plaintextSecretCache;
 
     public ProjectService(ProjectRepository projectRepository,
                          ProjectMembershipRepository membershipRepository,
@@ -50,7 +51,8 @@ public class ProjectService {
                          ProjectPermissionService permissionService,
                          TeamProjectRepository teamProjectRepository,
                          TeamRepository teamRepository,
-                         TeamMembershipRepository teamMembershipRepository) {
+                         TeamMembershipRepository teamMembershipRepository,
+                         PlaintextSecretCache plaintextSecretCache) {
         this.projectRepository = projectRepository;
         this.membershipRepository = membershipRepository;
         this.workflowProjectRepository = workflowProjectRepository;
@@ -60,6 +62,7 @@ public class ProjectService {
         this.teamProjectRepository = teamProjectRepository;
         this.teamRepository = teamRepository;
         this.teamMembershipRepository = teamMembershipRepository;
+        this.plaintextSecretCache = plaintextSecretCache;
     }
 
     /**
@@ -111,6 +114,10 @@ public class ProjectService {
         project.setDescription(request.getDescription());
         project.setCreatedBy(userId);
         project.setIsArchived(false);
+        if (request.getPlaintextCacheEnabled() != null) {
+            project.setPlaintextCacheEnabled(request.getPlaintextCacheEnabled());
+        }
+        applyVersionRetention(project, request);
 
         Project saved = projectRepository.save(project);
 
@@ -157,8 +164,13 @@ public class ProjectService {
 
         project.setName(request.getName());
         project.setDescription(request.getDescription());
+        if (request.getPlaintextCacheEnabled() != null) {
+            project.setPlaintextCacheEnabled(request.getPlaintextCacheEnabled());
+        }
+        applyVersionRetention(project, request);
 
         Project saved = projectRepository.save(project);
+        plaintextSecretCache.projectSettingsChanged(projectId);
         return toResponse(saved, userId);
     }
 
@@ -268,6 +280,18 @@ public class ProjectService {
         log.info("User {} left project {}", userId, projectId);
     }
 
+    /**
+     * Copy retention limits from a request; null leaves a limit unchanged and 0 removes it
+     */
+    private static void applyVersionRetention(Project project, ProjectRequest request) {
+        if (request.getVersionRetentionCount() != null) {
+            project.setVersionRetentionCount(request.getVersionRetentionCount() > 0 ? request.getVersionRetentionCount() : null);
+        }
+        if (request.getVersionRetentionDays() != null) {
+            project.setVersionRetentionDays(request.getVersionRetentionDays() > 0 ? request.getVersionRetentionDays() : null);
+        }
+    }
+
     private ProjectResponse toResponse(Project project, UUID userId) {
         ProjectResponse response = ProjectResponse.from(project);
         
@@ -0,0 +1,310 @@
+package com.secrets.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.secrets.client.AuditClient;
+import com.secrets.entity.Secret;
+import com.secrets.exception.BundleUnavailableException;
+import com.secrets.repository.SecretRepository;
+import com.secrets.util.EncryptionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Whole-project secret bundles for runtime consumers that boot with every secret at once.
+ *
+ * A bundle is a gzip-compressed JSON document of key/value pairs, signed with HMAC-SHA256 over
+ * the uncompressed JSON. It is built once per project secret revision and kept server-side as
+ * bytes, so a rollout of many instances costs one query and one decrypt pass. The cached bytes
+ * are sealed with the project's data key; serving a bundle only unseals that one payload, and no
+ * plaintext is cached. Concurrent requests for a stale bundle wait, for at most
+ * {@code app.bundle.build-wait}, on the future of a single rebuild, which runs outside any cache lock. Every committed secret write bumps the revision and
+ * drops the cached bundle without waiting for a build in progress.
+ */
+@Service
+public class SecretBundleService {
+
+    private static final Logger log = LoggerFactory.getLogger(SecretBundleService.class);
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+
+    private final SecretRepository secretRepository;
+    private final ProjectPermissionService permissionService;
+    private final SecretRevisionService revisionService;
+    private final EncryptionService encryptionService;
+    private final EncryptionUtil encryptionUtil;
+    private final AuditClient auditClient;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final SecretKeySpec signingKey;
+    private final AsyncCache<UUID, SealedBundle> bundles;
+    private final Counter builds;
+    private final Duration buildWait;
+
+    public SecretBundleService(SecretRepository secretRepository,
+                               ProjectPermissionService permissionService,
+                               SecretRevisionService revisionService,
+                               EncryptionService encryptionService,
+                               EncryptionUtil encryptionUtil,
+                               AuditClient auditClient,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.bundle.signing-key}") String signingKey,
+                               @Value("${app.bundle.max-bytes:67108864}") long maxBytes,
+                               @Value("${app.bundle.ttl:PT1H}") Duration ttl,
+                               @Value("${app.bundle.build-wait:PT30S}") Duration buildWait) {
+        this.secretRepository = secretRepository;
+        this.permissionService = permissionService;
+        this.revisionService = revisionService;
+        this.encryptionService = encryptionService;
+        this.encryptionUtil = encryptionUtil;
+        this.auditClient = auditClient;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.signingKey = new SecretKeySpec(signingKey.getBytes(StandardCharsets.UTF_8), SIGNATURE_ALGORITHM);
+        this.bundles = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((UUID projectId, SealedBundle bundle) -> bundle.sealed.length)
+            .expireAfterAccess(ttl)
+            .buildAsync();
+        this.builds = Counter.builder("secrets.bundle.builds")
+            .description("Project secret bundles built")
+            .register(meterRegistry);
+        this.buildWait = buildWait;
+
+        revisionService.addListener((projectId, revision) -> bundles.synchronous().invalidate(projectId));
+    }
+
+    /**
+     * Gzip-compressed bundle bytes with the revision they were built from and their signature
+     */
+    public static final class Bundle {
+
+        private final long revision;
+        private final byte[] compressed;
+        private final String signature;
+
+        private Bundle(long revision, byte[] compressed, String signature) {
+            this.revision = revision;
+            this.compressed = compressed;
+            this.signature = signature;
+        }
+
+        public long getRevision() {
+            return revision;
+        }
+
+        public byte[] getCompressed() {
+            return compressed;
+        }
+
+        /**
+         * Base64 HMAC-SHA256 of the uncompressed JSON
+         */
+        public String getSignature() {
+            return signature;
+        }
+    }
+
+    private static final class SealedBundle {
+
+        private final long revision;
+        private final byte[] sealed;
+        private final String signature;
+
+        private SealedBundle(long revision, byte[] sealed, String signature) {
+            this.revision = revision;
+            this.sealed = sealed;
+            this.signature = signature;
+        }
+    }
+
+    /**
+     * Current revision of a project's secrets, after checking the caller may read them
+     */
+    public long currentRevision(UUID projectId, UUID userId) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        return revisionService.current(projectId);
+    }
+
+    /**
+     * Bundle for {@code revision}, built if the cached one is missing or older
+     */
+    public Bundle getBundle(UUID projectId, long revision, UUID userId) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        SealedBundle sealed = sealedBundle(projectId, revision);
+        byte[] compressed = encryptionService.decrypt(sealed.sealed);
+
+        auditClient.logEvent(projectId, userId, "SECRET_BUNDLE_READ", "PROJECT", projectId.toString(), null,
+            Map.of("revision", sealed.revision));
+        return new Bundle(sealed.revision, compressed, sealed.signature);
+    }
+
+    /**
+     * Cached bundle at {@code revision} or newer. The caller that installs the pending future
+     * builds on its own thread; everyone else waits on that future.
+     */
+    private SealedBundle sealedBundle(UUID projectId, long revision) {
+        while (true) {
+            CompletableFuture<SealedBundle> cached = bundles.getIfPresent(projectId);
+            if (cached != null) {
+                SealedBundle bundle = await(projectId, cached);
+                if (bundle != null && bundle.revision >= revision) {
+                    return bundle;
+                }
+            }
+
+            CompletableFuture<SealedBundle> building = new CompletableFuture<>();
+            boolean claimed = cached == null
+                ? bundles.asMap().putIfAbsent(projectId, building) == null
+                : bundles.asMap().replace(projectId, cached, building);
+            if (!claimed) {
+                continue;
+            }
+            try {
+                SealedBundle bundle = build(projectId, revision);
+                building.complete(bundle);
+                return bundle;
+            } catch (Throwable e) {
+                // Errors too: a future left pending would block every waiter until the next write
+                building.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Result of another caller's build, or null if that build failed
+     */
+    private SealedBundle await(UUID projectId, CompletableFuture<SealedBundle> pending) {
+        try {
+            return pending.get(buildWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // A failed build is dropped by the cache, so treat it as missing and try again
+            return null;
+        } catch (TimeoutException e) {
+            throw new BundleUnavailableException("Secret bundle for project " + projectId + " is still being built");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BundleUnavailableException("Interrupted while waiting for the secret bundle of project " + projectId);
+        }
+    }
+
+    private SealedBundle build(UUID projectId, long revision) {
+        long started = System.nanoTime();
+        builds.increment();
+        byte[] json = readOnlyTransaction.execute(status -> {
+            try (Stream<Secret> secrets = secretRepository.streamByProjectId(projectId)) {
+                return writeJson(projectId, revision, secrets.toList());
+            }
+        });
+        try {
+            String signature = sign(json);
+            byte[] compressed = gzip(json);
+            byte[] sealed = encryptionService.encrypt(projectId, compressed);
+            log.info("Built secret bundle for project {} at revision {} ({} bytes compressed) in {} ms",
+                projectId, revision, compressed.length, Duration.ofNanos(System.nanoTime() - started).toMillis());
+            return new SealedBundle(revision, sealed, signature);
+        } finally {
+            Arrays.fill(json, (byte) 0);
+        }
+    }
+
+    private byte[] writeJson(UUID projectId, long revision, List<Secret> secrets) {
+        List<Secret> inline = new ArrayList<>(secrets.size());
+        List<String> largeValues = new ArrayList<>();
+        for (Secret secret : secrets) {
+            if (secret.isLargeValue()) {
+                largeValues.add(secret.getSecretKey());
+            } else {
+                inline.add(secret);
+            }
+        }
+        List<String> values = encryptionUtil.decryptSecretValues(inline);
+        secrets.forEach(entityManager::detach);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("projectId", projectId.toString());
+            generator.writeNumberField("revision", revision);
+            generator.writeStringField("generatedAt", Instant.now().toString());
+            generator.writeObjectFieldStart("secrets");
+            for (int i = 0; i < inline.size(); i++) {
+                generator.writeStringField(inline.get(i).getSecretKey(), values.get(i));
+            }
+            generator.writeEndObject();
+            // Large values are downloaded separately through /secrets/{key}/content
+            generator.writeArrayFieldStart("largeValues");
+            for (String key : largeValues) {
+                generator.writeString(key);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private String sign(byte[] json) {
+        try {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(signingKey);
+            return Base64.getEncoder().encodeToString(mac.doFinal(json));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign secret bundle", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,266 @@
+package com.secrets.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Change log behind delta sync, stored in {@code secret_changes}.
+ *
+ * Every secret mutation records the keys it touched under the project revision it bumped.
+ * Only the latest change per key is kept, so a client that last synced at revision N gets
+ * each changed or deleted key once, however often it changed since. Deletes leave tombstones;
+ * tombstones older than the retention are purged and the project's
+ * {@code secret_changes_floor} is raised past them. Clients behind the floor must resync fully.
+ * A client far behind gets the changes in pages split at revision boundaries, each page
+ * carrying at most a caller-given number of changed secrets.
+ */
+@Service
+public class SecretChangeLogService {
+
+    private static final Logger log = LoggerFactory.getLogger(SecretChangeLogService.class);
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO secret_changes (project_id, secret_key, revision, deleted, changed_at) VALUES (?, ?, ?, ?, ?) " +
+            "ON CONFLICT (project_id, secret_key) DO UPDATE SET revision = EXCLUDED.revision, " +
+            "deleted = EXCLUDED.deleted, changed_at = EXCLUDED.changed_at";
+
+    // H2 (test-h2 profile) has no ON CONFLICT ... DO UPDATE; its MERGE ... KEY is the equivalent
+    private static final String MERGE_SQL =
+        "MERGE INTO secret_changes (project_id, secret_key, revision, deleted, changed_at) " +
+            "KEY (project_id, secret_key) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String PROJECT_SQL =
+        "SELECT secret_revision, secret_changes_floor FROM projects WHERE id = ?";
+
+    private static final String CHANGES_SQL =
+        "SELECT secret_key, revision, deleted FROM secret_changes WHERE project_id = ? AND revision > ? " +
+            "ORDER BY revision, secret_key LIMIT ?";
+
+    // Purge expired tombstones and raise each affected project's floor in one statement
+    private static final String COMPACT_SQL =
+        "WITH purged AS (DELETE FROM secret_changes WHERE deleted AND changed_at < ? RETURNING project_id, revision) " +
+            "UPDATE projects p SET secret_changes_floor = GREATEST(p.secret_changes_floor, purged_max.revision) " +
+            "FROM (SELECT project_id, MAX(revision) AS revision FROM purged GROUP BY project_id) purged_max " +
+            "WHERE p.id = purged_max.project_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxChanges;
+    private final Duration tombstoneRetention;
+    private final Counter compactedProjects;
+    private volatile Boolean postgres;
+
+    public SecretChangeLogService(JdbcTemplate jdbcTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.secret-changes.max-changes:5000}") int maxChanges,
+                                  @Value("${app.secret-changes.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxChanges = maxChanges;
+        this.tombstoneRetention = tombstoneRetention;
+        this.compactedProjects = Counter.builder("secrets.changes.compacted.projects")
+            .description("Projects whose change-log floor was raised by tombstone compaction")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Changes since a revision. {@code resyncRequired} is set when the client is behind the
+     * compaction floor, ahead of the project, or when a single revision changed too many keys
+     * to fit in one page.
+     */
+    public static final class ChangeSet {
+
+        private final long revision;
+        private final boolean resyncRequired;
+        private final boolean hasMore;
+        private final List<String> changedKeys;
+        private final List<String> deletedKeys;
+
+        private ChangeSet(long revision, boolean resyncRequired, boolean hasMore,
+                          List<String> changedKeys, List<String> deletedKeys) {
+            this.revision = revision;
+            this.resyncRequired = resyncRequired;
+            this.hasMore = hasMore;
+            this.changedKeys = changedKeys;
+            this.deletedKeys = deletedKeys;
+        }
+
+        /**
+         * Revision the keys bring the client up to; the {@code since} of the next call
+         */
+        public long getRevision() {
+            return revision;
+        }
+
+        public boolean isResyncRequired() {
+            return resyncRequired;
+        }
+
+        /**
+         * More changes follow after {@link #getRevision()}
+         */
+        public boolean isHasMore() {
+            return hasMore;
+        }
+
+        public List<String> getChangedKeys() {
+            return changedKeys;
+        }
+
+        public List<String> getDeletedKeys() {
+            return deletedKeys;
+        }
+    }
+
+    /**
+     * Record created or updated keys; must run inside the mutating transaction, after the bump
+     */
+    public void recordChanged(UUID projectId, long revision, Collection<String> secretKeys) {
+        record(projectId, revision, secretKeys, false);
+    }
+
+    /**
+     * Record a tombstone for a deleted or moved-away key
+     */
+    public void recordDeleted(UUID projectId, long revision, String secretKey) {
+        recordDeleted(projectId, revision, List.of(secretKey));
+    }
+
+    public void recordDeleted(UUID projectId, long revision, Collection<String> secretKeys) {
+        record(projectId, revision, secretKeys, true);
+    }
+
+    private void record(UUID projectId, long revision, Collection<String> secretKeys, boolean deleted) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(secretKeys.size());
+        for (String secretKey : secretKeys) {
+            rows.add(new Object[] { projectId, secretKey, revision, deleted, now });
+        }
+        jdbcTemplate.batchUpdate(isPostgres() ? UPSERT_SQL : MERGE_SQL, rows);
+    }
+
+    /**
+     * Changes since a revision, with at most {@code maxChanged} changed keys. A page ends at a
+     * revision boundary so the returned revision is a safe {@code since} for the next call; if a
+     * single revision changed more keys than that, the client must resync instead.
+     */
+    public ChangeSet changesSince(UUID projectId, long sinceRevision, int maxChanged) {
+        long[] project;
+        try {
+            project = jdbcTemplate.queryForObject(PROJECT_SQL,
+                (rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) }, projectId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalArgumentException("Project not found");
+        }
+        long current = project[0];
+        long floor = project[1];
+        if (sinceRevision < floor || sinceRevision > current) {
+            return resync(current);
+        }
+
+        List<Change> rows = new ArrayList<>(jdbcTemplate.query(CHANGES_SQL,
+            (rs, rowNum) -> new Change(rs.getString("secret_key"), rs.getLong("revision"), rs.getBoolean("deleted")),
+            projectId, sinceRevision, maxChanges + 1));
+        // A full read may end mid-revision; drop that revision so the page ends on a boundary
+        boolean truncated = rows.size() > maxChanges;
+        if (truncated) {
+            long last = rows.get(rows.size() - 1).revision;
+            while (!rows.isEmpty() && rows.get(rows.size() - 1).revision == last) {
+                rows.remove(rows.size() - 1);
+            }
+            if (rows.isEmpty()) {
+                return resync(current);
+            }
+        }
+
+        List<String> changed = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        int start = 0;
+        while (start < rows.size()) {
+            long groupRevision = rows.get(start).revision;
+            int end = start;
+            int groupChanged = 0;
+            while (end < rows.size() && rows.get(end).revision == groupRevision) {
+                if (!rows.get(end).deleted) {
+                    groupChanged++;
+                }
+                end++;
+            }
+            if (changed.size() + groupChanged > maxChanged) {
+                if (start == 0) {
+                    return resync(current);
+                }
+                return new ChangeSet(rows.get(start - 1).revision, false, true, changed, deleted);
+            }
+            for (int i = start; i < end; i++) {
+                (rows.get(i).deleted ? deleted : changed).add(rows.get(i).secretKey);
+            }
+            start = end;
+        }
+        if (truncated) {
+            return new ChangeSet(rows.get(rows.size() - 1).revision, false, true, changed, deleted);
+        }
+        // Writes committed after the project row was read show up here too
+        long revision = rows.isEmpty() ? current : Math.max(current, rows.get(rows.size() - 1).revision);
+        return new ChangeSet(revision, false, false, changed, deleted);
+    }
+
+    private static ChangeSet resync(long current) {
+        return new ChangeSet(current, true, false, List.of(), List.of());
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return Boolean.TRUE.equals(result);
+    }
+
+    private static final class Change {
+
+        private final String secretKey;
+        private final long revision;
+        private final boolean deleted;
+
+        private Change(String secretKey, long revision, boolean deleted) {
+            this.secretKey = secretKey;
+            this.revision = revision;
+            this.deleted = deleted;
+        }
+    }
+
+    /**
+     * Purge tombstones past the retention; live keys keep their single row
+     */
+    @Scheduled(initialDelayString = "${app.secret-changes.compaction-initial-delay:PT5M}",
+               fixedDelayString = "${app.secret-changes.compaction-interval:PT6H}")
+    public void compact() {
+        try {
+            int projects = jdbcTemplate.update(COMPACT_SQL,
+                Timestamp.valueOf(LocalDateTime.now().minus(tombstoneRetention)));
+            if (projects > 0) {
+                compactedProjects.increment(projects);
+                log.info("Compacted secret change log tombstones for {} projects", projects);
+            }
+        } catch (Exception e) {
+            log.error("Secret change log compaction failed: {}", e.getMessage(), e);
+        }
+    }
+}
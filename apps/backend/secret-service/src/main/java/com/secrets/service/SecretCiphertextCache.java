@@ -0,0 +1,88 @@
+package com.secrets.service;
+
+import com.secrets.entity.Secret;
+import com.secrets.repository.SecretRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Read-through cache of encrypted secret rows keyed by (projectId, secretKey).
+ *
+ * Entries hold only ciphertext, never decrypted values. Cached instances are detached
+ * and shared between requests, so callers must treat them as read-only. Every write path
+ * evicts synchronously, and again after commit so a reader racing the transaction cannot
+ * leave the old row behind. Misses are not cached.
+ *
+ * Eviction only reaches this JVM, so each entry also records the project's secret revision
+ * read just before the row was loaded. A hit is served only while the revision is unchanged.
+ * Every committed write on any replica bumps the revision, so a rotated or deleted value is
+ * never served after its commit, whichever replica handled the write. A hit costs one
+ * primary-key read of the revision instead of the secret row and its creator.
+ */
+@Component
+public class SecretCiphertextCache {
+
+    static final String CACHE_NAME = "secretCiphertexts";
+
+    private final SecretRepository secretRepository;
+    private final SecretRevisionService revisionService;
+    private final Cache cache;
+
+    public SecretCiphertextCache(SecretRepository secretRepository, SecretRevisionService revisionService,
+                                 CacheManager cacheManager) {
+        this.secretRepository = secretRepository;
+        this.revisionService = revisionService;
+        this.cache = cacheManager.getCache(CACHE_NAME);
+    }
+
+    private static final class Entry {
+
+        private final long revision;
+        private final Secret secret;
+
+        private Entry(long revision, Secret secret) {
+            this.revision = revision;
+            this.secret = secret;
+        }
+    }
+
+    public Optional<Secret> find(UUID projectId, String secretKey) {
+        String key = cacheKey(projectId, secretKey);
+        // Read before the row: a write committing in between leaves the entry tagged as stale
+        long revision = revisionService.current(projectId);
+        Entry cached = cache.get(key, Entry.class);
+        if (cached != null && cached.revision == revision) {
+            return Optional.of(cached.secret);
+        }
+        Optional<Secret> loaded = secretRepository.findByProjectIdAndSecretKey(projectId, secretKey);
+        if (loaded.isPresent()) {
+            cache.put(key, new Entry(revision, loaded.get()));
+        } else {
+            cache.evict(key);
+        }
+        return loaded;
+    }
+
+    public void evict(UUID projectId, String secretKey) {
+        String key = cacheKey(projectId, secretKey);
+        cache.evict(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evict(key);
+                }
+            });
+        }
+    }
+
+    private static String cacheKey(UUID projectId, String secretKey) {
+        return String.format("%s:%s", projectId, secretKey);
+    }
+}
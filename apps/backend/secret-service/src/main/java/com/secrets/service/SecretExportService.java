@@ -0,0 +1,193 @@
+package com.secrets.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.secrets.client.AuditClient;
+import com.secrets.entity.Secret;
+import com.secrets.repository.SecretRepository;
+import com.secrets.util.EncryptionUtil;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Streams every secret of a project as NDJSON, .env or a JSON array.
+ *
+ * Rows come from a database cursor inside a read-only transaction opened by the response
+ * body itself, and each row is decrypted, written and detached before the next is read, so
+ * memory stays flat regardless of project size. NDJSON and .env output can be fed back into
+ * the bulk import endpoint. Large values are not inlined; they are marked and must be
+ * downloaded through {@code /secrets/{key}/content}.
+ */
+@Service
+public class SecretExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(SecretExportService.class);
+
+    private final SecretRepository secretRepository;
+    private final ProjectPermissionService permissionService;
+    private final EncryptionUtil encryptionUtil;
+    private final AuditClient auditClient;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SecretExportService(SecretRepository secretRepository,
+                               ProjectPermissionService permissionService,
+                               EncryptionUtil encryptionUtil,
+                               AuditClient auditClient,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.secretRepository = secretRepository;
+        this.permissionService = permissionService;
+        this.encryptionUtil = encryptionUtil;
+        this.auditClient = auditClient;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+        DOTENV(MediaType.TEXT_PLAIN, "env"),
+        JSON(MediaType.APPLICATION_JSON, "json");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            return switch (value.toLowerCase(Locale.ROOT)) {
+                case "ndjson" -> NDJSON;
+                case "env", "dotenv" -> DOTENV;
+                case "json" -> JSON;
+                default -> throw new IllegalArgumentException("Unsupported export format: " + value);
+            };
+        }
+    }
+
+    /**
+     * Check access and audit the export, then return a body that streams the project's secrets
+     */
+    public StreamingResponseBody exportProjectSecrets(UUID projectId, Format format, UUID userId) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        auditClient.logEvent(projectId, userId, "SECRET_EXPORT", "PROJECT", projectId.toString(), null,
+            java.util.Map.of("format", format.name()));
+
+        return out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Secret> secrets = secretRepository.streamByProjectId(projectId)) {
+                long written = write(secrets.iterator(), format, out);
+                log.info("Exported {} secrets from project {} as {}", written, projectId, format);
+            } catch (IOException e) {
+                throw new java.io.UncheckedIOException(e);
+            }
+        });
+    }
+
+    private long write(Iterator<Secret> secrets, Format format, OutputStream out) throws IOException {
+        if (format == Format.DOTENV) {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            long count = 0;
+            while (secrets.hasNext()) {
+                Secret secret = secrets.next();
+                if (secret.isLargeValue()) {
+                    writer.write("# " + secret.getSecretKey() + " is a large value; download it from /content\n");
+                } else {
+                    writer.write(secret.getSecretKey() + "=\"" + escapeDotenv(encryptionUtil.decryptSecretValue(secret)) + "\"\n");
+                }
+                entityManager.detach(secret);
+                count++;
+            }
+            writer.flush();
+            return count;
+        }
+
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        if (format == Format.NDJSON) {
+            generator.setRootValueSeparator(null);
+        } else {
+            generator.writeStartArray();
+        }
+        long count = 0;
+        while (secrets.hasNext()) {
+            Secret secret = secrets.next();
+            writeJson(generator, secret);
+            if (format == Format.NDJSON) {
+                generator.writeRaw('\n');
+            }
+            entityManager.detach(secret);
+            count++;
+        }
+        if (format == Format.JSON) {
+            generator.writeEndArray();
+        }
+        generator.flush();
+        return count;
+    }
+
+    private void writeJson(JsonGenerator generator, Secret secret) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("key", secret.getSecretKey());
+        if (secret.isLargeValue()) {
+            generator.writeBooleanField("largeValue", true);
+            generator.writeNumberField("valueSize", secret.getValueSize());
+        } else {
+            generator.writeStringField("value", encryptionUtil.decryptSecretValue(secret));
+        }
+        if (secret.getDescription() != null) {
+            generator.writeStringField("description", secret.getDescription());
+        }
+        if (secret.getExpiresAt() != null) {
+            generator.writeStringField("expiresAt", secret.getExpiresAt().toString());
+        }
+        generator.writeEndObject();
+    }
+
+    private static String escapeDotenv(String value) {
+        StringBuilder out = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.append("\\\\");
+                case '"' -> out.append("\\\"");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
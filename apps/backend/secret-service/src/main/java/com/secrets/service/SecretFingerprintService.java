@@ -0,0 +1,48 @@
+package com.secrets.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+/**
+ * Keyed fingerprints of secret values: HMAC-SHA256 of the plaintext under a service-wide key.
+ *
+ * Ciphertexts differ on every write because of the random IV, so comparing them says nothing
+ * about the values. Fingerprints are deterministic, which lets a write tell that a value did not
+ * change, and lets equal values be found across projects, all without decrypting. Without the
+ * key a fingerprint cannot be used to guess values offline. The key is shared by all projects
+ * on purpose; rotating it makes stored fingerprints stop matching until values are rewritten.
+ */
+@Service
+public class SecretFingerprintService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public SecretFingerprintService(@Value("${encryption.fingerprint-key}") String key) {
+        this.key = new SecretKeySpec(key.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public byte[] fingerprint(String value) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not fingerprint secret value", e);
+        }
+    }
+
+    /**
+     * Whether two fingerprints are of the same value; false when the stored one is missing
+     */
+    public static boolean matches(byte[] storedFingerprint, byte[] fingerprint) {
+        return storedFingerprint != null && MessageDigest.isEqual(storedFingerprint, fingerprint);
+    }
+}
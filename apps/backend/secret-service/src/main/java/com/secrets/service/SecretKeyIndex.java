@@ -0,0 +1,212 @@
+package com.secrets.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.secrets.repository.SecretRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory index of secret keys per project for typeahead.
+ *
+ * Each project's keys are held as a sorted array of lower-cased keys next to the original
+ * spelling, so prefix suggestions are a binary search and substring suggestions a scan over
+ * short strings, both without touching the database. A project is loaded on its first lookup
+ * and kept current by the write paths in {@link ProjectSecretService}; changes are applied
+ * after commit so rolled-back writes never show up. Memory is bounded by the total key length
+ * held, and cold projects are evicted first. Entries also expire, which bounds staleness if a
+ * load races with a concurrent write.
+ */
+@Component
+public class SecretKeyIndex {
+
+    private final SecretRepository secretRepository;
+    private final Cache<UUID, ProjectKeys> projects;
+    private final Counter loads;
+
+    public SecretKeyIndex(SecretRepository secretRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.key-index.max-chars:8000000}") long maxChars,
+                          @Value("${app.key-index.ttl:PT10M}") Duration ttl) {
+        this.secretRepository = secretRepository;
+        this.projects = Caffeine.newBuilder()
+            .maximumWeight(maxChars)
+            .weigher((UUID projectId, ProjectKeys keys) -> keys.weight())
+            .expireAfterWrite(ttl)
+            .build();
+        this.loads = Counter.builder("secrets.key.index.loads")
+            .description("Projects loaded into the key index")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Up to {@code limit} keys of a project matching {@code query}, case-insensitively:
+     * prefix matches first, then keys containing the query elsewhere, each in key order
+     */
+    public List<String> suggest(UUID projectId, String query, int limit) {
+        ProjectKeys keys = projects.get(projectId, this::load);
+        return keys.suggest(query.toLowerCase(Locale.ROOT), limit);
+    }
+
+    public void added(UUID projectId, String secretKey) {
+        afterCommit(() -> projects.asMap().computeIfPresent(projectId, (id, keys) -> keys.with(secretKey)));
+    }
+
+    public void addedAll(UUID projectId, Collection<String> secretKeys) {
+        afterCommit(() -> projects.asMap().computeIfPresent(projectId, (id, keys) -> keys.withAll(secretKeys)));
+    }
+
+    public void removed(UUID projectId, String secretKey) {
+        afterCommit(() -> projects.asMap().computeIfPresent(projectId, (id, keys) -> keys.without(secretKey)));
+    }
+
+    public void removedAll(UUID projectId, Collection<String> secretKeys) {
+        afterCommit(() -> projects.asMap().computeIfPresent(projectId, (id, keys) -> keys.withoutAll(secretKeys)));
+    }
+
+    private ProjectKeys load(UUID projectId) {
+        loads.increment();
+        return ProjectKeys.of(secretRepository.findSecretKeysByProjectId(projectId));
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    /**
+     * Immutable sorted key set; updates return a copy so readers never need a lock
+     */
+    private static final class ProjectKeys {
+
+        private final String[] lowerKeys;
+        private final String[] keys;
+        private final int weight;
+
+        private ProjectKeys(String[] lowerKeys, String[] keys) {
+            this.lowerKeys = lowerKeys;
+            this.keys = keys;
+            int chars = 0;
+            for (String key : keys) {
+                chars += key.length();
+            }
+            this.weight = Math.max(1, chars * 2);
+        }
+
+        private static ProjectKeys of(Collection<String> secretKeys) {
+            String[] sorted = secretKeys.stream()
+                .distinct()
+                .sorted(ProjectKeys::compare)
+                .toArray(String[]::new);
+            String[] lower = new String[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                lower[i] = sorted[i].toLowerCase(Locale.ROOT);
+            }
+            return new ProjectKeys(lower, sorted);
+        }
+
+        private static int compare(String a, String b) {
+            int byLower = a.toLowerCase(Locale.ROOT).compareTo(b.toLowerCase(Locale.ROOT));
+            return byLower != 0 ? byLower : a.compareTo(b);
+        }
+
+        private int weight() {
+            return weight;
+        }
+
+        private List<String> suggest(String query, int limit) {
+            List<String> matches = new ArrayList<>(Math.min(limit, keys.length));
+            int first = lowerBound(query);
+            int prefixEnd = first;
+            while (prefixEnd < lowerKeys.length && lowerKeys[prefixEnd].startsWith(query)) {
+                if (matches.size() == limit) {
+                    return matches;
+                }
+                matches.add(keys[prefixEnd]);
+                prefixEnd++;
+            }
+            for (int i = 0; i < lowerKeys.length && matches.size() < limit; i++) {
+                if ((i < first || i >= prefixEnd) && lowerKeys[i].contains(query)) {
+                    matches.add(keys[i]);
+                }
+            }
+            return matches;
+        }
+
+        private int lowerBound(String lowerKey) {
+            int index = Arrays.binarySearch(lowerKeys, lowerKey);
+            if (index < 0) {
+                return -index - 1;
+            }
+            // Several keys may share a lower-case spelling; step back to the first of them
+            while (index > 0 && lowerKeys[index - 1].equals(lowerKey)) {
+                index--;
+            }
+            return index;
+        }
+
+        private ProjectKeys with(String secretKey) {
+            int index = Arrays.binarySearch(keys, secretKey, ProjectKeys::compare);
+            if (index >= 0) {
+                return this;
+            }
+            int insertAt = -index - 1;
+            String[] newKeys = new String[keys.length + 1];
+            String[] newLowerKeys = new String[keys.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(lowerKeys, 0, newLowerKeys, 0, insertAt);
+            newKeys[insertAt] = secretKey;
+            newLowerKeys[insertAt] = secretKey.toLowerCase(Locale.ROOT);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(lowerKeys, insertAt, newLowerKeys, insertAt + 1, keys.length - insertAt);
+            return new ProjectKeys(newLowerKeys, newKeys);
+        }
+
+        private ProjectKeys withAll(Collection<String> secretKeys) {
+            List<String> merged = new ArrayList<>(Arrays.asList(keys));
+            merged.addAll(secretKeys);
+            return of(merged);
+        }
+
+        private ProjectKeys withoutAll(Collection<String> secretKeys) {
+            Set<String> removed = new HashSet<>(secretKeys);
+            return of(Arrays.stream(keys).filter(key -> !removed.contains(key)).toList());
+        }
+
+        private ProjectKeys without(String secretKey) {
+            int index = Arrays.binarySearch(keys, secretKey, ProjectKeys::compare);
+            if (index < 0) {
+                return this;
+            }
+            String[] newKeys = new String[keys.length - 1];
+            String[] newLowerKeys = new String[keys.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(lowerKeys, 0, newLowerKeys, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(lowerKeys, index + 1, newLowerKeys, index, keys.length - index - 1);
+            return new ProjectKeys(newLowerKeys, newKeys);
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.secrets.service;
+
+import com.secrets.dto.ReencryptionStatusResponse;
+import com.secrets.entity.ReencryptionCheckpoint;
+import com.secrets.repository.ReencryptionCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Online re-encryption of {@code secrets} and {@code secret_versions}.
+ *
+ * Rows are walked in primary-key order with keyset pagination. Each chunk is decrypted and
+ * re-encrypted under its project's active data key on a bounded fork-join pool, then written
+ * back with one JDBC batch. The batch and the checkpoint commit together, so a stopped or
+ * crashed job resumes after the last committed row. Updates are conditional on the old
+ * ciphertext, so a concurrent user write always wins over the job.
+ */
+@Service
+public class SecretReencryptionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SecretReencryptionService.class);
+
+    static final String SECRETS = "secrets";
+    static final String SECRET_VERSIONS = "secret_versions";
+    private static final List<String> TABLES = List.of(SECRETS, SECRET_VERSIONS);
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private static final Map<String, String> SELECT_SQL = Map.of(
+        SECRETS,
+        "SELECT id, project_id, encrypted_payload, encrypted_value FROM secrets " +
+            "WHERE id > ? AND blob_id IS NULL ORDER BY id LIMIT ?",
+        SECRET_VERSIONS,
+        "SELECT v.id, s.project_id, v.encrypted_payload, v.encrypted_value FROM secret_versions v " +
+            "JOIN secrets s ON s.id = v.secret_id WHERE v.id > ? AND v.blob_id IS NULL ORDER BY v.id LIMIT ?"
+    );
+
+    // Rewritten rows always end up in the binary column; the legacy text copy is dropped
+    private static final Map<String, String> UPDATE_SQL = Map.of(
+        SECRETS,
+        "UPDATE secrets SET encrypted_payload = ?, encrypted_value = NULL WHERE id = ? " +
+            "AND encrypted_payload IS NOT DISTINCT FROM ? AND encrypted_value IS NOT DISTINCT FROM ?",
+        SECRET_VERSIONS,
+        "UPDATE secret_versions SET encrypted_payload = ?, encrypted_value = NULL WHERE id = ? " +
+            "AND encrypted_payload IS NOT DISTINCT FROM ? AND encrypted_value IS NOT DISTINCT FROM ?"
+    );
+
+    private static final int[] UPDATE_TYPES = { Types.BINARY, Types.OTHER, Types.BINARY, Types.VARCHAR };
+
+    private static final RowMapper<Row> ROW_MAPPER = (rs, rowNum) -> new Row(
+        rs.getObject("id", UUID.class),
+        rs.getObject("project_id", UUID.class),
+        rs.getBytes("encrypted_payload"),
+        rs.getString("encrypted_value"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EncryptionService encryptionService;
+    private final ReencryptionCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "secret-reencryption");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ForkJoinPool cryptoPool;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean stopRequested;
+
+    private final Map<String, AtomicLong> scannedGauges = new HashMap<>();
+    private final Map<String, Counter> reencryptedCounters = new HashMap<>();
+    private final Map<String, Counter> failedCounters = new HashMap<>();
+    private final Map<String, Timer> batchTimers = new HashMap<>();
+
+    @Value("${reencryption.batch-size:500}")
+    private int batchSize;
+
+    @Value("${reencryption.max-rows-per-second:2000}")
+    private int maxRowsPerSecond;
+
+    @Value("${reencryption.resume-on-startup:true}")
+    private boolean resumeOnStartup;
+
+    public SecretReencryptionService(JdbcTemplate jdbcTemplate,
+                                     EncryptionService encryptionService,
+                                     ReencryptionCheckpointRepository checkpointRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${reencryption.parallelism:4}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.encryptionService = encryptionService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cryptoPool = new ForkJoinPool(parallelism);
+
+        Gauge.builder("secrets.reencryption.running", running, flag -> flag.get() ? 1 : 0)
+            .description("Whether the re-encryption job is running")
+            .register(meterRegistry);
+        for (String table : TABLES) {
+            AtomicLong scanned = new AtomicLong();
+            scannedGauges.put(table, scanned);
+            Gauge.builder("secrets.reencryption.scanned", scanned, AtomicLong::get)
+                .description("Rows scanned by the current re-encryption pass")
+                .tag("table", table)
+                .register(meterRegistry);
+            reencryptedCounters.put(table, Counter.builder("secrets.reencryption.rows")
+                .description("Rows rewritten by the re-encryption job")
+                .tag("table", table)
+                .tag("outcome", "reencrypted")
+                .register(meterRegistry));
+            failedCounters.put(table, Counter.builder("secrets.reencryption.rows")
+                .description("Rows rewritten by the re-encryption job")
+                .tag("table", table)
+                .tag("outcome", "failed")
+                .register(meterRegistry));
+            batchTimers.put(table, Timer.builder("secrets.reencryption.batch.duration")
+                .description("Time to read, re-encrypt and write one chunk")
+                .tag("table", table)
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Start the job, resuming from the last checkpoint of an unfinished pass
+     */
+    public ReencryptionStatusResponse start() {
+        if (running.compareAndSet(false, true)) {
+            stopRequested = false;
+            runner.submit(this::run);
+            log.info("Re-encryption job started");
+        }
+        return status();
+    }
+
+    /**
+     * Ask the job to stop after the chunk in flight; progress is kept for the next start
+     */
+    public ReencryptionStatusResponse stop() {
+        if (running.get()) {
+            stopRequested = true;
+            log.info("Re-encryption job stop requested");
+        }
+        return status();
+    }
+
+    public ReencryptionStatusResponse status() {
+        List<ReencryptionStatusResponse.TableProgress> tables = new ArrayList<>();
+        for (String table : TABLES) {
+            ReencryptionCheckpoint checkpoint = checkpointRepository.findById(table)
+                .orElseGet(() -> new ReencryptionCheckpoint(table));
+            tables.add(ReencryptionStatusResponse.TableProgress.from(checkpoint));
+        }
+        return new ReencryptionStatusResponse(running.get(), tables);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedPass() {
+        if (!resumeOnStartup) {
+            return;
+        }
+        boolean interrupted = checkpointRepository.findAllById(TABLES).stream()
+            .anyMatch(checkpoint -> !checkpoint.getCompleted() && checkpoint.getLastId() != null);
+        if (interrupted) {
+            log.info("Resuming interrupted re-encryption pass");
+            start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopRequested = true;
+        runner.shutdown();
+        cryptoPool.shutdown();
+    }
+
+    private void run() {
+        try {
+            for (String table : TABLES) {
+                if (!processTable(table)) {
+                    log.info("Re-encryption job stopped during {}", table);
+                    return;
+                }
+            }
+            log.info("Re-encryption job completed");
+        } catch (Exception e) {
+            log.error("Re-encryption job failed: {}", e.getMessage(), e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * @return true when the table has been fully processed, false when stopped early
+     */
+    private boolean processTable(String table) throws Exception {
+        ReencryptionCheckpoint checkpoint = checkpointRepository.findById(table)
+            .orElseGet(() -> new ReencryptionCheckpoint(table));
+        if (checkpoint.getCompleted()) {
+            // Previous pass finished; start a fresh one
+            checkpoint = new ReencryptionCheckpoint(table);
+        }
+        UUID lastId = checkpoint.getLastId() != null ? checkpoint.getLastId() : FIRST_ID;
+        scannedGauges.get(table).set(checkpoint.getScannedRows());
+
+        while (!stopRequested) {
+            long started = System.nanoTime();
+            List<Row> rows = jdbcTemplate.query(SELECT_SQL.get(table), ROW_MAPPER, lastId, batchSize);
+            if (rows.isEmpty()) {
+                checkpoint.setCompleted(true);
+                checkpointRepository.save(checkpoint);
+                return true;
+            }
+
+            List<Object[]> updates = cryptoPool.submit(() -> rows.parallelStream()
+                .map(row -> reencrypt(table, row))
+                .filter(Objects::nonNull)
+                .toList()).get();
+
+            lastId = rows.get(rows.size() - 1).id;
+            checkpoint.setLastId(lastId);
+            checkpoint.setScannedRows(checkpoint.getScannedRows() + rows.size());
+
+            ReencryptionCheckpoint progress = checkpoint;
+            int written = Objects.requireNonNull(transactionTemplate.execute(status -> {
+                int count = 0;
+                if (!updates.isEmpty()) {
+                    for (int result : jdbcTemplate.batchUpdate(UPDATE_SQL.get(table), updates, UPDATE_TYPES)) {
+                        if (result > 0 || result == Statement.SUCCESS_NO_INFO) {
+                            count++;
+                        }
+                    }
+                }
+                progress.setReencryptedRows(progress.getReencryptedRows() + count);
+                checkpointRepository.save(progress);
+                return count;
+            }));
+
+            reencryptedCounters.get(table).increment(written);
+            scannedGauges.get(table).set(checkpoint.getScannedRows());
+            batchTimers.get(table).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throttle(rows.size(), started);
+        }
+        return false;
+    }
+
+    private Object[] reencrypt(String table, Row row) {
+        try {
+            boolean needsReencryption = row.encryptedPayload != null
+                ? encryptionService.needsReencryption(row.projectId, row.encryptedPayload)
+                : encryptionService.needsReencryption(row.projectId, row.encryptedValue);
+            if (!needsReencryption) {
+                // Current key but still stored as text: leave it to CiphertextBackfillService
+                return null;
+            }
+            String plainText = encryptionService.decryptStored(row.encryptedPayload, row.encryptedValue);
+            byte[] reencrypted = encryptionService.encrypt(row.projectId, plainText.getBytes(StandardCharsets.UTF_8));
+            return new Object[] { reencrypted, row.id, row.encryptedPayload, row.encryptedValue };
+        } catch (RuntimeException e) {
+            failedCounters.get(table).increment();
+            log.warn("Skipping {} row {} during re-encryption: {}", table, row.id, e.getMessage());
+            return null;
+        }
+    }
+
+    private void throttle(int rows, long startedNanos) throws InterruptedException {
+        if (maxRowsPerSecond <= 0) {
+            return;
+        }
+        long minimumNanos = TimeUnit.SECONDS.toNanos(rows) / maxRowsPerSecond;
+        long remaining = minimumNanos - (System.nanoTime() - startedNanos);
+        if (remaining > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private static final class Row {
+        private final UUID id;
+        private final UUID projectId;
+        private final byte[] encryptedPayload;
+        private final String encryptedValue;
+
+        private Row(UUID id, UUID projectId, byte[] encryptedPayload, String encryptedValue) {
+            this.id = id;
+            this.projectId = projectId;
+            this.encryptedPayload = encryptedPayload;
+            this.encryptedValue = encryptedValue;
+        }
+    }
+}
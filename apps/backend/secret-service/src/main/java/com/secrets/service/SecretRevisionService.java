@@ -0,0 +1,148 @@
+package com.secrets.service;
+
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * Per-project revision counter for secrets, stored in {@code projects.secret_revision}.
+ *
+ * Every mutation in {@link ProjectSecretService} bumps it inside its own transaction, so a
+ * reader that sees an unchanged revision knows nothing in the project changed. The counter
+ * backs the ETags on secret listings. The UPDATE locks the project row until commit, so
+ * writers bump as the last statement before commit: the lock then covers only the commit
+ * itself, not the rest of the write or its audit call. Listeners hear about a new revision
+ * once its transaction has committed.
+ */
+@Service
+public class SecretRevisionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SecretRevisionService.class);
+
+    private static final String BUMP_SQL =
+        "UPDATE projects SET secret_revision = secret_revision + 1 WHERE id = ? RETURNING secret_revision";
+
+    // H2 (test-h2 profile) has no UPDATE ... RETURNING; the row stays locked after the plain
+    // UPDATE, so the SELECT that follows reads this transaction's value
+    private static final String INCREMENT_SQL =
+        "UPDATE projects SET secret_revision = secret_revision + 1 WHERE id = ?";
+
+    private static final String CURRENT_SQL = "SELECT secret_revision FROM projects WHERE id = ?";
+
+    /**
+     * Notified after commit whenever a project's secrets changed
+     */
+    public interface Listener {
+        void revisionChanged(UUID projectId, long revision);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile Boolean postgres;
+
+    public SecretRevisionService(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Bump the project's revision just before the current transaction commits, after pending
+     * entity changes are flushed, and hand the new revision to {@code onBump} (which may write
+     * more rows under it). Bumps run in the order they were requested. Without a transaction
+     * the bump happens immediately.
+     */
+    public void bumpBeforeCommit(UUID projectId, LongConsumer onBump) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onBump.accept(bump(projectId));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                entityManager.flush();
+                onBump.accept(bump(projectId));
+            }
+        });
+    }
+
+    /**
+     * Increment the project's revision; must run inside the mutating transaction
+     */
+    public long bump(UUID projectId) {
+        long revision = increment(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notifyListeners(projectId, revision);
+                }
+            });
+        } else {
+            notifyListeners(projectId, revision);
+        }
+        return revision;
+    }
+
+    public long current(UUID projectId) {
+        return query(CURRENT_SQL, projectId);
+    }
+
+    private long increment(UUID projectId) {
+        if (isPostgres()) {
+            List<Long> revision = jdbcTemplate.queryForList(BUMP_SQL, Long.class, projectId);
+            if (revision.isEmpty()) {
+                throw new IllegalArgumentException("Project not found");
+            }
+            return revision.get(0);
+        }
+        if (jdbcTemplate.update(INCREMENT_SQL, projectId) == 0) {
+            throw new IllegalArgumentException("Project not found");
+        }
+        return query(CURRENT_SQL, projectId);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return Boolean.TRUE.equals(result);
+    }
+
+    private void notifyListeners(UUID projectId, long revision) {
+        for (Listener listener : listeners) {
+            try {
+                listener.revisionChanged(projectId, revision);
+            } catch (RuntimeException e) {
+                log.warn("Secret revision listener failed for project {}: {}", projectId, e.getMessage());
+            }
+        }
+    }
+
+    private long query(String sql, UUID projectId) {
+        try {
+            Long revision = jdbcTemplate.queryForObject(sql, Long.class, projectId);
+            return revision != null ? revision : 0;
+        } catch (EmptyResultDataAccessException e) {
+            throw new IllegalArgumentException("Project not found");
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.secrets.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Background pruning of old secret versions under each project's retention settings.
+ *
+ * A version is deleted once it is outside every limit the project sets: older than the last
+ * {@code versionRetentionCount} versions and older than {@code versionRetentionDays}. The last N
+ * versions are found from {@code secrets.current_version} rather than by ranking rows, and the
+ * current version is never deleted. Work is done in batches, each a DELETE ... RETURNING in its
+ * own transaction together with the cleanup of large values no longer referenced.
+ */
+@Service
+public class SecretVersionRetentionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SecretVersionRetentionService.class);
+
+    private static final String PRUNE_SQL =
+        "DELETE FROM secret_versions WHERE id IN (" +
+            "SELECT v.id FROM secret_versions v " +
+            "JOIN secrets s ON s.id = v.secret_id " +
+            "JOIN projects p ON p.id = s.project_id " +
+            "WHERE (p.version_retention_count IS NOT NULL OR p.version_retention_days IS NOT NULL) " +
+            "AND v.version_number < s.current_version " +
+            "AND (p.version_retention_count IS NULL OR v.version_number <= s.current_version - p.version_retention_count) " +
+            "AND (p.version_retention_days IS NULL OR v.created_at < now() - p.version_retention_days * INTERVAL '1 day') " +
+            "LIMIT ?) " +
+            "RETURNING blob_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LargeSecretStore largeSecretStore;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter prunedVersions;
+
+    @Value("${app.version-retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.version-retention.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.version-retention.pause-between-batches:PT0.1S}")
+    private Duration pauseBetweenBatches;
+
+    public SecretVersionRetentionService(JdbcTemplate jdbcTemplate,
+                                         LargeSecretStore largeSecretStore,
+                                         PlatformTransactionManager transactionManager,
+                                         MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.largeSecretStore = largeSecretStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.prunedVersions = Counter.builder("secrets.versions.pruned")
+            .description("Secret versions deleted by retention settings")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.version-retention.initial-delay:PT2M}",
+               fixedDelayString = "${app.version-retention.interval:PT1H}")
+    public void prune() {
+        if (!enabled) {
+            return;
+        }
+        long total = 0;
+        try {
+            int pruned;
+            do {
+                pruned = transactionTemplate.execute(status -> pruneBatch());
+                total += pruned;
+                prunedVersions.increment(pruned);
+                if (pruned > 0 && !pauseBetweenBatches.isZero()) {
+                    Thread.sleep(pauseBetweenBatches.toMillis());
+                }
+            } while (pruned == batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.error("Secret version pruning stopped after {} versions: {}", total, e.getMessage(), e);
+            return;
+        }
+        if (total > 0) {
+            log.info("Pruned {} secret versions past their project's retention", total);
+        }
+    }
+
+    private int pruneBatch() {
+        List<UUID> blobIds = jdbcTemplate.queryForList(PRUNE_SQL, UUID.class, batchSize);
+        Set<UUID> candidateBlobs = new HashSet<>();
+        blobIds.stream().filter(Objects::nonNull).forEach(candidateBlobs::add);
+        if (!candidateBlobs.isEmpty()) {
+            largeSecretStore.deleteUnreferenced(candidateBlobs);
+        }
+        return blobIds.size();
+    }
+}
@@ -5,40 +5,116 @@ import com.secrets.entity.SecretVersion;
 import com.secrets.repository.SecretVersionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+/**
+ * Creates secret versions. Version numbers come from the {@code secrets.current_version}
+ * counter, advanced and read back in one {@code UPDATE ... RETURNING}. The row lock the UPDATE
+ * takes lasts until commit, so concurrent writers to one secret queue up and each gets its own
+ * number, without reading MAX() first.
+ */
 @Service
 public class SecretVersionService {
 
     private static final Logger log = LoggerFactory.getLogger(SecretVersionService.class);
 
+    private static final String NEXT_VERSION_SQL =
+        "UPDATE secrets SET current_version = current_version + 1 WHERE id = ? RETURNING current_version";
+
+    // H2 (test-h2 profile) has no UPDATE ... RETURNING; it bumps and then reads the counter back
+    private static final String BUMP_VERSION_SQL =
+        "UPDATE secrets SET current_version = current_version + 1 WHERE id = ?";
+
+    private static final String CURRENT_VERSION_SQL = "SELECT current_version FROM secrets WHERE id = ?";
+
     private final SecretVersionRepository secretVersionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
 
-    public SecretVersionService(SecretVersionRepository secretVersionRepository) {
+    public SecretVersionService(SecretVersionRepository secretVersionRepository, JdbcTemplate jdbcTemplate) {
         this.secretVersionRepository = secretVersionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Build (without saving) version 1 of a newly created secret, for batched inserts
+     */
+    public SecretVersion initialVersion(Secret secret, java.util.UUID createdBy) {
+        return buildVersion(secret, 1, createdBy, "Initial version");
     }
 
     /**
-     * Create a new version of a secret (v3 - uses UUID)
+     * Save version 1 of a secret created in the current transaction; its row may not be
+     * flushed yet, so the counter is not touched (new secrets start at 1)
+     */
+    @Transactional
+    public SecretVersion createInitialVersion(Secret secret, java.util.UUID createdBy, String changeNote) {
+        return secretVersionRepository.save(buildVersion(secret, 1, createdBy, changeNote));
+    }
+
+    /**
+     * Create the next version of an existing secret (v3 - uses UUID)
      */
     @Transactional
     public SecretVersion createVersion(Secret secret, java.util.UUID createdBy, String changeNote) {
-        // Get the next version number
-        Integer nextVersion = secretVersionRepository.findMaxVersionNumberBySecretId(secret.getId())
-                .map(v -> v + 1)
-                .orElse(1);
+        int nextVersion = nextVersionNumber(secret);
+
+        SecretVersion savedVersion = secretVersionRepository.save(buildVersion(secret, nextVersion, createdBy, changeNote));
+        log.debug("Created version {} for secret: {}", nextVersion, secret.getSecretKey());
+        return savedVersion;
+    }
+
+    private int nextVersionNumber(Secret secret) {
+        Integer next = secret.getId() != null ? bumpVersion(secret.getId()) : null;
+        if (next == null) {
+            throw new IllegalStateException("Secret " + secret.getId() + " is not stored yet; use createInitialVersion");
+        }
+        secret.setCurrentVersion(next);
+        return next;
+    }
+
+    /**
+     * Advance the counter and return the new value, or null if the row does not exist
+     */
+    private Integer bumpVersion(java.util.UUID secretId) {
+        if (isPostgres()) {
+            List<Integer> next = jdbcTemplate.queryForList(NEXT_VERSION_SQL, Integer.class, secretId);
+            return next.isEmpty() ? null : next.get(0);
+        }
+        if (jdbcTemplate.update(BUMP_VERSION_SQL, secretId) == 0) {
+            return null;
+        }
+        return jdbcTemplate.queryForObject(CURRENT_VERSION_SQL, Integer.class, secretId);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return Boolean.TRUE.equals(result);
+    }
 
+    private static SecretVersion buildVersion(Secret secret, int versionNumber, java.util.UUID createdBy,
+                                              String changeNote) {
         SecretVersion version = new SecretVersion();
         version.setSecretId(secret.getId());
         version.setSecret(secret);
-        version.setVersionNumber(nextVersion);
+        version.setVersionNumber(versionNumber);
+        version.setEncryptedPayload(secret.getEncryptedPayload());
         version.setEncryptedValue(secret.getEncryptedValue());
+        version.setBlobId(secret.getBlobId());
+        version.setValueSize(secret.getValueSize());
+        version.setValueFingerprint(secret.getValueFingerprint());
         version.setCreatedBy(createdBy);
         version.setChangeNote(changeNote);
-
-        SecretVersion savedVersion = secretVersionRepository.save(version);
-        log.debug("Created version {} for secret: {}", nextVersion, secret.getSecretKey());
-        return savedVersion;
+        return version;
     }
 }
@@ -0,0 +1,130 @@
+package com.secrets.service;
+
+import com.secrets.dto.SecretWatchResponse;
+import com.secrets.exception.WatchCapacityExceededException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Long-poll watches on a project's secret revision.
+ *
+ * A watch is a {@link DeferredResult} parked in memory, so waiting clients hold neither a
+ * servlet thread nor a database connection. Watches complete as soon as
+ * {@link SecretRevisionService} reports a committed revision newer than the one the client
+ * already has. On timeout the revision is read once more, which also catches writes made
+ * through other instances.
+ */
+@Service
+public class SecretWatchService {
+
+    private final ProjectPermissionService permissionService;
+    private final SecretRevisionService revisionService;
+    private final Map<UUID, Set<Watch>> watches = new ConcurrentHashMap<>();
+    private final AtomicInteger parked = new AtomicInteger();
+    private final int maxWatches;
+    private final Duration maxTimeout;
+
+    public SecretWatchService(ProjectPermissionService permissionService,
+                              SecretRevisionService revisionService,
+                              @Value("${app.watch.max-watches:10000}") int maxWatches,
+                              @Value("${app.watch.max-timeout:PT60S}") Duration maxTimeout) {
+        this.permissionService = permissionService;
+        this.revisionService = revisionService;
+        this.maxWatches = maxWatches;
+        this.maxTimeout = maxTimeout;
+
+        revisionService.addListener(this::revisionChanged);
+    }
+
+    private static final class Watch {
+
+        private final long sinceRevision;
+        private final DeferredResult<SecretWatchResponse> result;
+
+        private Watch(long sinceRevision, DeferredResult<SecretWatchResponse> result) {
+            this.sinceRevision = sinceRevision;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Result that completes once the project's revision is past {@code sinceRevision}, or with
+     * {@code changed=false} after {@code timeout}
+     */
+    public DeferredResult<SecretWatchResponse> watch(UUID projectId, long sinceRevision, Duration timeout, UUID userId) {
+        if (!permissionService.canViewProject(projectId, userId)) {
+            throw new AccessDeniedException("Access denied to project");
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Watch timeout must be positive");
+        }
+        if (timeout.compareTo(maxTimeout) > 0) {
+            timeout = maxTimeout;
+        }
+
+        if (parked.incrementAndGet() > maxWatches) {
+            parked.decrementAndGet();
+            throw new WatchCapacityExceededException("Too many open watches, retry later");
+        }
+
+        DeferredResult<SecretWatchResponse> result = new DeferredResult<>(timeout.toMillis());
+        Watch watch = new Watch(sinceRevision, result);
+        result.onTimeout(() -> complete(result, projectId, sinceRevision, true));
+        result.onCompletion(() -> {
+            watches.computeIfPresent(projectId, (id, projectWatches) -> {
+                projectWatches.remove(watch);
+                return projectWatches.isEmpty() ? null : projectWatches;
+            });
+            parked.decrementAndGet();
+        });
+        watches.compute(projectId, (id, projectWatches) -> {
+            Set<Watch> updated = projectWatches != null ? projectWatches : ConcurrentHashMap.newKeySet();
+            updated.add(watch);
+            return updated;
+        });
+
+        // Read after registering so a write committed in between is not missed
+        complete(result, projectId, sinceRevision, false);
+        return result;
+    }
+
+    private void complete(DeferredResult<SecretWatchResponse> result, UUID projectId, long sinceRevision,
+                          boolean timedOut) {
+        try {
+            long current = revisionService.current(projectId);
+            if (timedOut || current > sinceRevision) {
+                result.setResult(response(sinceRevision, current));
+            }
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        }
+    }
+
+    private void revisionChanged(UUID projectId, long revision) {
+        Set<Watch> projectWatches = watches.get(projectId);
+        if (projectWatches == null) {
+            return;
+        }
+        for (Watch watch : projectWatches) {
+            if (revision > watch.sinceRevision) {
+                watch.result.setResult(response(watch.sinceRevision, revision));
+            }
+        }
+    }
+
+    private static SecretWatchResponse response(long sinceRevision, long revision) {
+        return SecretWatchResponse.builder()
+            .revision(revision)
+            .changed(revision > sinceRevision)
+            .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.secrets.service.crypto;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+/**
+ * Low-level AES-256-GCM engine shared by the encryption services.
+ *
+ * Payload layout is {@code IV (12 bytes) || ciphertext || tag (16 bytes)}, which is the
+ * format {@link com.secrets.service.AesEncryptionService} has always produced.
+ *
+ * A {@link Cipher} is kept per thread and re-initialised for every operation, so no
+ * provider lookup happens on the hot path. IVs come from a single shared
+ * {@link SecureRandom}. Callers may reserve header bytes in front of the sealed payload
+ * so that framing can be written into the same array without another copy.
+ */
+public final class AesGcm {
+
+    public static final String ALGORITHM = "AES";
+    public static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    public static final int IV_LENGTH = 12;
+    public static final int TAG_LENGTH = 16;
+    public static final int KEY_LENGTH = 32; // 256 bits
+
+    private static final SecureRandom IV_SOURCE = new SecureRandom();
+
+    private static final ThreadLocal<Cipher> CIPHERS = ThreadLocal.withInitial(() -> {
+        try {
+            return Cipher.getInstance(TRANSFORMATION);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES/GCM is not available in this JVM", e);
+        }
+    });
+
+    private AesGcm() {
+    }
+
+    /**
+     * Size of a sealed payload (without any reserved header) for the given plaintext length
+     */
+    public static int sealedLength(int plainLength) {
+        return IV_LENGTH + plainLength + TAG_LENGTH;
+    }
+
+    /**
+     * Encrypt {@code plain[offset, offset + length)} into a new array.
+     *
+     * @param headerLength number of leading bytes left zeroed for the caller to fill
+     */
+    public static byte[] seal(SecretKey key, byte[] plain, int offset, int length, int headerLength)
+            throws GeneralSecurityException {
+        byte[] iv = new byte[IV_LENGTH];
+        IV_SOURCE.nextBytes(iv);
+
+        byte[] out = new byte[headerLength + sealedLength(length)];
+        System.arraycopy(iv, 0, out, headerLength, IV_LENGTH);
+
+        Cipher cipher = CIPHERS.get();
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, iv));
+        cipher.doFinal(plain, offset, length, out, headerLength + IV_LENGTH);
+        return out;
+    }
+
+    public static byte[] seal(SecretKey key, byte[] plain) throws GeneralSecurityException {
+        return seal(key, plain, 0, plain.length, 0);
+    }
+
+    /**
+     * Decrypt a sealed payload located at {@code payload[offset, offset + length)}
+     */
+    public static byte[] open(SecretKey key, byte[] payload, int offset, int length)
+            throws GeneralSecurityException {
+        if (length < IV_LENGTH + TAG_LENGTH) {
+            throw new IllegalArgumentException("Encrypted payload is too short");
+        }
+        Cipher cipher = CIPHERS.get();
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, payload, offset, IV_LENGTH));
+        return cipher.doFinal(payload, offset + IV_LENGTH, length - IV_LENGTH);
+    }
+
+    public static byte[] open(SecretKey key, byte[] payload) throws GeneralSecurityException {
+        return open(key, payload, 0, payload.length);
+    }
+
+    /**
+     * Decrypt the remaining bytes of {@code payload} straight into {@code output}.
+     * Works with heap and direct buffers; the payload buffer is fully consumed.
+     *
+     * @return number of plaintext bytes written
+     */
+    public static int open(SecretKey key, ByteBuffer payload, ByteBuffer output) throws GeneralSecurityException {
+        if (payload.remaining() < IV_LENGTH + TAG_LENGTH) {
+            throw new IllegalArgumentException("Encrypted payload is too short");
+        }
+        byte[] iv = new byte[IV_LENGTH];
+        payload.get(iv);
+
+        Cipher cipher = CIPHERS.get();
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_LENGTH * 8, iv));
+        return cipher.doFinal(payload, output);
+    }
+}
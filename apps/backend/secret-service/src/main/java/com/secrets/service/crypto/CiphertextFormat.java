@@ -0,0 +1,70 @@
+package com.secrets.service.crypto;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Framing for stored ciphertext.
+ *
+ * Binary payloads start with a scheme byte:
+ * <ul>
+ *   <li>{@link #SCHEME_MASTER_KEY}: {@code 0x01 || master key version (1 byte) || sealed}</li>
+ *   <li>{@link #SCHEME_DATA_KEY}: {@code 0x02 || data key id (16 bytes) || sealed}</li>
+ * </ul>
+ * where {@code sealed} is the {@link AesGcm} payload. The text form is
+ * {@link #TEXT_PREFIX} followed by the Base64 of the binary payload. Text without the
+ * prefix is the original unframed Base64 payload sealed directly with a master key.
+ */
+public final class CiphertextFormat {
+
+    public static final String TEXT_PREFIX = "$";
+
+    public static final byte SCHEME_MASTER_KEY = 0x01;
+    public static final byte SCHEME_DATA_KEY = 0x02;
+
+    public static final int MASTER_KEY_HEADER_LENGTH = 2;
+    public static final int DATA_KEY_HEADER_LENGTH = 17;
+
+    private CiphertextFormat() {
+    }
+
+    public static boolean isFramed(String text) {
+        return text.startsWith(TEXT_PREFIX);
+    }
+
+    public static byte scheme(byte[] payload) {
+        if (payload.length == 0) {
+            throw new IllegalArgumentException("Encrypted payload is empty");
+        }
+        return payload[0];
+    }
+
+    public static int headerLength(byte scheme) {
+        return switch (scheme) {
+            case SCHEME_MASTER_KEY -> MASTER_KEY_HEADER_LENGTH;
+            case SCHEME_DATA_KEY -> DATA_KEY_HEADER_LENGTH;
+            default -> throw new IllegalArgumentException("Unknown ciphertext scheme: " + scheme);
+        };
+    }
+
+    public static void writeMasterKeyHeader(byte[] payload, int keyVersion) {
+        payload[0] = SCHEME_MASTER_KEY;
+        payload[1] = (byte) keyVersion;
+    }
+
+    public static int masterKeyVersion(byte[] payload) {
+        return payload[1] & 0xFF;
+    }
+
+    public static void writeDataKeyHeader(byte[] payload, UUID dataKeyId) {
+        ByteBuffer.wrap(payload, 0, DATA_KEY_HEADER_LENGTH)
+            .put(SCHEME_DATA_KEY)
+            .putLong(dataKeyId.getMostSignificantBits())
+            .putLong(dataKeyId.getLeastSignificantBits());
+    }
+
+    public static UUID dataKeyId(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload, 1, 16);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,82 @@
+package com.secrets.service.crypto;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Versioned set of master keys used to wrap project data keys.
+ *
+ * The current key is {@code encryption.key} at version {@code encryption.key-version}.
+ * Earlier versions stay readable while they are listed as
+ * {@code encryption.retired-keys.<version>} (e.g. {@code ENCRYPTION_RETIRED_KEYS_1}),
+ * which is what allows data keys to be re-wrapped after a rotation.
+ */
+@Component
+public class MasterKeyRing {
+
+    private final int currentVersion;
+    private final Map<Integer, SecretKey> keys;
+
+    public MasterKeyRing(@Value("${encryption.key}") String encryptionKey,
+                         @Value("${encryption.key-version:1}") int keyVersion,
+                         Environment environment) {
+        if (keyVersion < 1 || keyVersion > 255) {
+            throw new IllegalArgumentException("encryption.key-version must be between 1 and 255");
+        }
+        Map<Integer, SecretKey> ring = new LinkedHashMap<>();
+        ring.put(keyVersion, toKey(encryptionKey));
+        for (int version = keyVersion - 1; version >= 1; version--) {
+            String retired = environment.getProperty("encryption.retired-keys." + version);
+            if (retired != null && !retired.isEmpty()) {
+                ring.put(version, toKey(retired));
+            }
+        }
+        this.currentVersion = keyVersion;
+        this.keys = Collections.unmodifiableMap(ring);
+    }
+
+    public int currentVersion() {
+        return currentVersion;
+    }
+
+    public SecretKey current() {
+        return keys.get(currentVersion);
+    }
+
+    /**
+     * Key for a specific version; fails if that version is no longer configured
+     */
+    public SecretKey forVersion(int version) {
+        SecretKey key = keys.get(version);
+        if (key == null) {
+            throw new IllegalStateException("Master key version " + version + " is not configured");
+        }
+        return key;
+    }
+
+    /**
+     * All configured keys, current version first
+     */
+    public Map<Integer, SecretKey> keys() {
+        return keys;
+    }
+
+    private static SecretKey toKey(String value) {
+        // Ensure key is exactly 32 bytes for AES-256
+        byte[] keyBytes = value.getBytes(StandardCharsets.UTF_8);
+        if (keyBytes.length != AesGcm.KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                String.format("Encryption key must be exactly %d bytes (256 bits) for AES-256", AesGcm.KEY_LENGTH)
+            );
+        }
+        return new SecretKeySpec(keyBytes, AesGcm.ALGORITHM);
+    }
+}
@@ -1,9 +1,26 @@
 package com.secrets.util;
 
 import com.secrets.entity.Secret;
+import com.secrets.entity.SecretVersion;
 import com.secrets.service.EncryptionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
 /**
  * Utility class for encryption operations
  * Extracted from SecretService for v3 architecture cleanup
@@ -12,16 +29,79 @@ import org.springframework.stereotype.Component;
 public class EncryptionUtil {
 
     private final EncryptionService encryptionService;
+    private final ThreadPoolExecutor decryptPool;
+    private final int parallelThreshold;
+    private final Timer queueTimer;
+    private final Timer cryptoTimer;
+    private final Timer batchTimer;
+    private final Timer encryptTimer;
 
-    public EncryptionUtil(EncryptionService encryptionService) {
+    public EncryptionUtil(EncryptionService encryptionService,
+                          MeterRegistry meterRegistry,
+                          @Value("${encryption.batch-decrypt.parallelism:0}") int parallelism,
+                          @Value("${encryption.batch-decrypt.queue-capacity:1000}") int queueCapacity,
+                          @Value("${encryption.batch-decrypt.parallel-threshold:8}") int parallelThreshold) {
         this.encryptionService = encryptionService;
+        this.parallelThreshold = parallelThreshold;
+
+        // Platform threads on purpose: each keeps its own initialised Cipher between pages.
+        // When the queue is full the request thread decrypts the row itself.
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.decryptPool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "secret-decrypt-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+        this.decryptPool.allowCoreThreadTimeOut(true);
+
+        this.queueTimer = Timer.builder("secrets.decrypt.batch.queue")
+            .description("Time a row waits for a decrypt worker")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.cryptoTimer = Timer.builder("secrets.decrypt.batch.crypto")
+            .description("Time spent decrypting a single row")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("secrets.decrypt.batch.duration")
+            .description("Time to decrypt a whole page of secrets")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.encryptTimer = Timer.builder("secrets.encrypt.batch.crypto")
+            .description("Time spent encrypting a single value of a batch")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
     }
 
     /**
-     * Decrypt a secret's encrypted value
+     * Decrypt a secret's encrypted value; large values are streamed separately and yield null
      */
     public String decryptSecretValue(Secret secret) {
-        return encryptionService.decrypt(secret.getEncryptedValue());
+        if (secret.isLargeValue()) {
+            return null;
+        }
+        return encryptionService.decryptStored(secret.getEncryptedPayload(), secret.getEncryptedValue());
+    }
+
+    /**
+     * Decrypt a secret version's encrypted value
+     */
+    public String decryptVersionValue(SecretVersion version) {
+        if (version.isLargeValue()) {
+            return null;
+        }
+        return encryptionService.decryptStored(version.getEncryptedPayload(), version.getEncryptedValue());
+    }
+
+    /**
+     * Decrypt a page of secrets on the bounded decrypt pool; results keep the input order.
+     * Small pages are decrypted on the calling thread.
+     */
+    public List<String> decryptSecretValues(List<Secret> secrets) {
+        return decryptInOrder(secrets, this::decryptSecretValue);
     }
 
     /**
@@ -30,4 +110,75 @@ public class EncryptionUtil {
     public String decrypt(String encryptedValue) {
         return encryptionService.decrypt(encryptedValue);
     }
+
+    /**
+     * Encrypt many values with the project's data key on the same bounded pool;
+     * results keep the input order
+     */
+    public List<byte[]> encryptAll(UUID projectId, List<String> plainTexts) {
+        return inOrder(plainTexts, plainText -> encryptionService.encrypt(projectId, plainText.getBytes(StandardCharsets.UTF_8)),
+            encryptTimer);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        decryptPool.shutdown();
+    }
+
+    private <T> List<String> decryptInOrder(List<T> items, Function<T, String> decryptor) {
+        long batchStart = System.nanoTime();
+        try {
+            return inOrder(items, decryptor, cryptoTimer);
+        } finally {
+            batchTimer.record(System.nanoTime() - batchStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <T, R> List<R> inOrder(List<T> items, Function<T, R> operation, Timer operationTimer) {
+        List<R> results = new ArrayList<>(items.size());
+        if (items.size() < parallelThreshold) {
+            for (T item : items) {
+                results.add(timed(item, operation, operationTimer));
+            }
+            return results;
+        }
+
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            long submitted = System.nanoTime();
+            futures.add(decryptPool.submit(() -> {
+                queueTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return timed(item, operation, operationTimer);
+            }));
+        }
+        for (Future<R> future : futures) {
+            results.add(await(future, futures));
+        }
+        return results;
+    }
+
+    private <T, R> R timed(T item, Function<T, R> operation, Timer operationTimer) {
+        long started = System.nanoTime();
+        try {
+            return operation.apply(item);
+        } finally {
+            operationTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <R> R await(Future<R> future, List<Future<R>> batch) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            batch.forEach(pending -> pending.cancel(true));
+            throw new RuntimeException("Interrupted while processing secrets", e);
+        } catch (ExecutionException e) {
+            batch.forEach(pending -> pending.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException("Error processing secret", e.getCause());
+        }
+    }
 }
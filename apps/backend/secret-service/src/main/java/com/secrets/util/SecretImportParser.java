@@ -0,0 +1,152 @@
+package com.secrets.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.secrets.dto.BulkSecretResponse.BulkError;
+import com.secrets.dto.SecretRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parses bulk import payloads (.env and NDJSON) into secret requests.
+ * Lines that cannot be parsed are reported as errors instead of failing the whole import.
+ */
+@Component
+public class SecretImportParser {
+
+    private final ObjectMapper objectMapper;
+
+    public SecretImportParser(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Parse {@code KEY=value} lines. Supports comments, blank lines, an optional
+     * {@code export} prefix, single-quoted literals and double-quoted values with
+     * escapes that may span several lines.
+     */
+    public ParsedImport parseDotenv(String content) {
+        ParsedImport parsed = new ParsedImport();
+        String[] lines = content.split("\r?\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            int lineNumber = i + 1;
+            String line = lines[i].strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("export ")) {
+                line = line.substring("export ".length()).stripLeading();
+            }
+            int separator = line.indexOf('=');
+            if (separator <= 0) {
+                parsed.errors.add(parseError(null, lineNumber, "Expected KEY=value"));
+                continue;
+            }
+            String key = line.substring(0, separator).strip();
+            String raw = line.substring(separator + 1).strip();
+
+            String value;
+            if (raw.startsWith("\"")) {
+                StringBuilder quoted = new StringBuilder(raw.substring(1));
+                while (closingQuote(quoted) < 0 && i + 1 < lines.length) {
+                    quoted.append('\n').append(lines[++i]);
+                }
+                int end = closingQuote(quoted);
+                if (end < 0) {
+                    parsed.errors.add(parseError(key, lineNumber, "Unterminated double-quoted value"));
+                    continue;
+                }
+                value = unescape(quoted.substring(0, end));
+            } else if (raw.startsWith("'")) {
+                int end = raw.indexOf('\'', 1);
+                if (end < 0) {
+                    parsed.errors.add(parseError(key, lineNumber, "Unterminated single-quoted value"));
+                    continue;
+                }
+                value = raw.substring(1, end);
+            } else {
+                int comment = raw.indexOf(" #");
+                value = (comment >= 0 ? raw.substring(0, comment) : raw).strip();
+            }
+            parsed.requests.add(new SecretRequest(key, value));
+        }
+        return parsed;
+    }
+
+    /**
+     * Parse one JSON {@link SecretRequest} object per line
+     */
+    public ParsedImport parseNdjson(String content) {
+        ParsedImport parsed = new ParsedImport();
+        String[] lines = content.split("\r?\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty()) {
+                continue;
+            }
+            try {
+                parsed.requests.add(objectMapper.readValue(line, SecretRequest.class));
+            } catch (JsonProcessingException e) {
+                parsed.errors.add(parseError(null, i + 1, "Invalid JSON: " + e.getOriginalMessage()));
+            }
+        }
+        return parsed;
+    }
+
+    private static int closingQuote(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String unescape(String value) {
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                switch (next) {
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    default -> out.append(next);
+                }
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+
+    private static BulkError parseError(String key, int lineNumber, String message) {
+        return BulkError.builder()
+            .secretKey(key)
+            .error("PARSE_ERROR")
+            .message("Line " + lineNumber + ": " + message)
+            .build();
+    }
+
+    /**
+     * Requests that parsed, plus per-line errors for those that did not
+     */
+    public static class ParsedImport {
+        private final List<SecretRequest> requests = new ArrayList<>();
+        private final List<BulkError> errors = new ArrayList<>();
+
+        public List<SecretRequest> getRequests() {
+            return requests;
+        }
+
+        public List<BulkError> getErrors() {
+            return errors;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+-- =============================================================================
+-- Envelope Encryption: per-project data keys
+-- =============================================================================
+-- Each project gets a data key that encrypts its secret values. Only the data key
+-- is encrypted (wrapped) with the master key, so rotating the master key re-wraps
+-- one row per project instead of re-encrypting every secret.
+--
+-- project_id has no foreign key on purpose: ciphertexts reference their data key
+-- by id, and copied or moved secrets may outlive the project that created the key.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS project_data_keys (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    project_id UUID NOT NULL,
+    wrapped_key TEXT NOT NULL,
+    master_key_version INTEGER NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_project_data_keys_project
+    ON project_data_keys(project_id);
+
+CREATE INDEX IF NOT EXISTS idx_project_data_keys_master_version
+    ON project_data_keys(master_key_version);
+
+-- At most one active key per project; concurrent creators lose on this index
+CREATE UNIQUE INDEX IF NOT EXISTS uq_project_data_keys_active
+    ON project_data_keys(project_id)
+    WHERE active;
+
+COMMENT ON TABLE project_data_keys IS 'Per-project data encryption keys wrapped by a versioned master key';
+COMMENT ON COLUMN project_data_keys.master_key_version IS 'Version of the master key that wraps wrapped_key';
@@ -0,0 +1,17 @@
+-- =============================================================================
+-- Online Re-encryption: per-table checkpoints
+-- =============================================================================
+-- The re-encryption job walks secrets and secret_versions in id order and records
+-- the last committed id here, in the same transaction as each written batch.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS reencryption_checkpoints (
+    table_name VARCHAR(64) PRIMARY KEY,
+    last_id UUID,
+    scanned_rows BIGINT NOT NULL DEFAULT 0,
+    reencrypted_rows BIGINT NOT NULL DEFAULT 0,
+    completed BOOLEAN NOT NULL DEFAULT FALSE,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE reencryption_checkpoints IS 'Resume points for the online re-encryption job';
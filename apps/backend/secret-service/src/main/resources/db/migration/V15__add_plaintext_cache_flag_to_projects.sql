@@ -0,0 +1,7 @@
+-- Migration: Add plaintext_cache_enabled column to projects table
+-- Purpose: Per-project opt-in for the off-heap plaintext cache of hot secrets
+
+ALTER TABLE projects
+ADD COLUMN IF NOT EXISTS plaintext_cache_enabled BOOLEAN NOT NULL DEFAULT FALSE;
+
+COMMENT ON COLUMN projects.plaintext_cache_enabled IS 'Whether decrypted values of this project''s secrets may be cached off-heap';
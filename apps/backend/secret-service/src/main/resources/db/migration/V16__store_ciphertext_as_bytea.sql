@@ -0,0 +1,29 @@
+-- =============================================================================
+-- Binary ciphertext storage
+-- =============================================================================
+-- Ciphertext moves from Base64 TEXT (encrypted_value) to BYTEA (encrypted_payload).
+-- During the dual-read period a row has exactly one of the two columns set: new writes
+-- fill encrypted_payload, and the background backfill converts existing rows and clears
+-- encrypted_value. The partial indexes keep the backfill scan cheap and become empty
+-- once it has finished.
+-- =============================================================================
+
+ALTER TABLE secrets ADD COLUMN IF NOT EXISTS encrypted_payload BYTEA;
+ALTER TABLE secrets ALTER COLUMN encrypted_value DROP NOT NULL;
+ALTER TABLE secrets ADD CONSTRAINT chk_secrets_ciphertext
+    CHECK (encrypted_payload IS NOT NULL OR encrypted_value IS NOT NULL);
+
+ALTER TABLE secret_versions ADD COLUMN IF NOT EXISTS encrypted_payload BYTEA;
+ALTER TABLE secret_versions ALTER COLUMN encrypted_value DROP NOT NULL;
+ALTER TABLE secret_versions ADD CONSTRAINT chk_secret_versions_ciphertext
+    CHECK (encrypted_payload IS NOT NULL OR encrypted_value IS NOT NULL);
+
+CREATE INDEX IF NOT EXISTS idx_secrets_text_ciphertext
+    ON secrets(id) WHERE encrypted_payload IS NULL;
+CREATE INDEX IF NOT EXISTS idx_secret_versions_text_ciphertext
+    ON secret_versions(id) WHERE encrypted_payload IS NULL;
+
+COMMENT ON COLUMN secrets.encrypted_payload IS 'Framed binary ciphertext (scheme byte, key header, IV, ciphertext, tag)';
+COMMENT ON COLUMN secrets.encrypted_value IS 'Legacy Base64 ciphertext; NULL once backfilled to encrypted_payload';
+COMMENT ON COLUMN secret_versions.encrypted_payload IS 'Framed binary ciphertext (scheme byte, key header, IV, ciphertext, tag)';
+COMMENT ON COLUMN secret_versions.encrypted_value IS 'Legacy Base64 ciphertext; NULL once backfilled to encrypted_payload';
@@ -0,0 +1,45 @@
+-- =============================================================================
+-- Large-value secrets: compressed, chunked, encrypted blobs
+-- =============================================================================
+-- A blob is immutable. Secrets and secret versions point at it through blob_id,
+-- and copies of a secret share the same blob. The application deletes a blob
+-- once nothing references it.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS secret_blobs (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    project_id UUID NOT NULL,
+    plaintext_size BIGINT NOT NULL DEFAULT 0,
+    stored_size BIGINT NOT NULL DEFAULT 0,
+    chunk_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_secret_blobs_project ON secret_blobs(project_id);
+
+CREATE TABLE IF NOT EXISTS secret_blob_chunks (
+    id UUID PRIMARY KEY,
+    blob_id UUID NOT NULL REFERENCES secret_blobs(id) ON DELETE CASCADE,
+    chunk_index INTEGER NOT NULL,
+    encrypted_chunk BYTEA NOT NULL,
+    CONSTRAINT uq_secret_blob_chunks_index UNIQUE (blob_id, chunk_index)
+);
+
+ALTER TABLE secrets ADD COLUMN IF NOT EXISTS blob_id UUID REFERENCES secret_blobs(id);
+ALTER TABLE secrets ADD COLUMN IF NOT EXISTS value_size BIGINT;
+ALTER TABLE secret_versions ADD COLUMN IF NOT EXISTS blob_id UUID REFERENCES secret_blobs(id);
+ALTER TABLE secret_versions ADD COLUMN IF NOT EXISTS value_size BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_secrets_blob ON secrets(blob_id) WHERE blob_id IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_secret_versions_blob ON secret_versions(blob_id) WHERE blob_id IS NOT NULL;
+
+-- A row now holds its value inline (binary or legacy text) or in a blob
+ALTER TABLE secrets DROP CONSTRAINT IF EXISTS chk_secrets_ciphertext;
+ALTER TABLE secrets ADD CONSTRAINT chk_secrets_ciphertext
+    CHECK (encrypted_payload IS NOT NULL OR encrypted_value IS NOT NULL OR blob_id IS NOT NULL);
+ALTER TABLE secret_versions DROP CONSTRAINT IF EXISTS chk_secret_versions_ciphertext;
+ALTER TABLE secret_versions ADD CONSTRAINT chk_secret_versions_ciphertext
+    CHECK (encrypted_payload IS NOT NULL OR encrypted_value IS NOT NULL OR blob_id IS NOT NULL);
+
+COMMENT ON TABLE secret_blobs IS 'Large secret values stored as deflated, encrypted chunks';
+COMMENT ON COLUMN secrets.value_size IS 'Plaintext size in bytes of a large value';
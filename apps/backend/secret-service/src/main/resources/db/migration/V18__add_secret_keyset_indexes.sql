@@ -0,0 +1,15 @@
+-- =============================================================================
+-- Keyset pagination: composite indexes matching ORDER BY (sort field, id)
+-- =============================================================================
+
+-- Secret key ordering within a project
+CREATE INDEX IF NOT EXISTS idx_secrets_project_key_id
+ON secrets(project_id, secret_key, id);
+
+-- Creation date ordering within a project (default listing order)
+CREATE INDEX IF NOT EXISTS idx_secrets_project_created_id
+ON secrets(project_id, created_at, id);
+
+-- Last update ordering within a project
+CREATE INDEX IF NOT EXISTS idx_secrets_project_updated_id
+ON secrets(project_id, updated_at, id);
@@ -0,0 +1,16 @@
+-- =============================================================================
+-- Secret search: trigram GIN indexes for substring and fuzzy matching
+-- =============================================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Serve LOWER(secret_key) LIKE '%term%' and similarity ranking on keys
+CREATE INDEX IF NOT EXISTS idx_secrets_key_trgm
+ON secrets USING gin (lower(secret_key) gin_trgm_ops);
+
+-- Serve LOWER(description) LIKE '%term%'
+CREATE INDEX IF NOT EXISTS idx_secrets_description_trgm
+ON secrets USING gin (lower(description) gin_trgm_ops);
+
+COMMENT ON INDEX idx_secrets_key_trgm IS 'Trigram index for secret key search';
+COMMENT ON INDEX idx_secrets_description_trgm IS 'Trigram index for secret description search';
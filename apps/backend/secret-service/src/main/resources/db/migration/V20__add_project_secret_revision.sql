@@ -0,0 +1,7 @@
+-- =============================================================================
+-- Per-project secret revision: bumped by every secret mutation, backs ETags
+-- =============================================================================
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS secret_revision BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN projects.secret_revision IS 'Incremented on every secret create, update, delete, move, copy and restore';
@@ -0,0 +1,30 @@
+-- =============================================================================
+-- Secret change log for delta sync: latest change per key, tombstones for deletes
+-- =============================================================================
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS secret_changes_floor BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN projects.secret_changes_floor IS 'Oldest revision delta sync can start from; raised when tombstones are compacted';
+
+CREATE TABLE IF NOT EXISTS secret_changes (
+    project_id UUID NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    secret_key VARCHAR(255) NOT NULL,
+    revision BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (project_id, secret_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_secret_changes_project_revision
+ON secret_changes(project_id, revision);
+
+-- Tombstone compaction scans by age
+CREATE INDEX IF NOT EXISTS idx_secret_changes_tombstones
+ON secret_changes(changed_at) WHERE deleted;
+
+-- Existing secrets count as changed at the project's current revision, so since=0 returns them
+INSERT INTO secret_changes (project_id, secret_key, revision, deleted, changed_at)
+SELECT s.project_id, s.secret_key, p.secret_revision, FALSE, CURRENT_TIMESTAMP
+FROM secrets s
+JOIN projects p ON p.id = s.project_id
+ON CONFLICT (project_id, secret_key) DO NOTHING;
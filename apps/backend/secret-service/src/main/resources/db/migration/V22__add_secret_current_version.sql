@@ -0,0 +1,18 @@
+-- =============================================================================
+-- Per-secret version counter: version numbers are allocated with
+-- UPDATE ... RETURNING instead of MAX(version_number) + 1
+-- =============================================================================
+
+ALTER TABLE secrets ADD COLUMN IF NOT EXISTS current_version INTEGER NOT NULL DEFAULT 0;
+
+UPDATE secrets s
+SET current_version = v.max_version
+FROM (
+    SELECT secret_id, MAX(version_number) AS max_version
+    FROM secret_versions
+    GROUP BY secret_id
+) v
+WHERE v.secret_id = s.id
+  AND s.current_version < v.max_version;
+
+COMMENT ON COLUMN secrets.current_version IS 'Highest version number allocated for this secret';
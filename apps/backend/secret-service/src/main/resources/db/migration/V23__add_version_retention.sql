@@ -0,0 +1,9 @@
+-- =============================================================================
+-- Per-project secret version retention, enforced by a background pruner
+-- =============================================================================
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version_retention_count INTEGER;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version_retention_days INTEGER;
+
+COMMENT ON COLUMN projects.version_retention_count IS 'Keep at least the last N versions of each secret; NULL for no limit';
+COMMENT ON COLUMN projects.version_retention_days IS 'Keep versions newer than N days; NULL for no limit';
@@ -0,0 +1,13 @@
+-- =============================================================================
+-- Keyed HMAC fingerprint of secret plaintexts: detects no-op updates and finds
+-- equal values across projects without decrypting
+-- =============================================================================
+
+ALTER TABLE secrets ADD COLUMN IF NOT EXISTS value_fingerprint BYTEA;
+ALTER TABLE secret_versions ADD COLUMN IF NOT EXISTS value_fingerprint BYTEA;
+
+-- Existing rows stay NULL until their value is next written
+CREATE INDEX IF NOT EXISTS idx_secrets_value_fingerprint
+ON secrets(value_fingerprint) WHERE value_fingerprint IS NOT NULL;
+
+COMMENT ON COLUMN secrets.value_fingerprint IS 'HMAC-SHA256 of the plaintext under encryption.fingerprint-key; NULL for large values';
@@ -0,0 +1,116 @@
+package com.secrets.repository;
+
+import com.secrets.dto.SecretResponse;
+import com.secrets.entity.Secret;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A secret list page costs the same number of statements whatever its size: the rows (with
+ * creator and current version) plus the count, never one query per row.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.default_constraint_mode=NO_CONSTRAINT",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test-h2")
+@Sql("/sql/h2-users.sql")
+class SecretListStatementCountTest {
+
+    private static final int SECRETS = 150;
+
+    // Seeded by h2-users.sql
+    private static final UUID CREATOR_ID = UUID.fromString("00000000-0000-0000-0000-0000000000c1");
+    private static final String CREATOR_EMAIL = "creator@example.com";
+
+    @Autowired
+    private SecretRepository secretRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UUID projectId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void createSecrets() {
+        projectId = UUID.randomUUID();
+        List<Secret> secrets = new ArrayList<>(SECRETS);
+        for (int i = 0; i < SECRETS; i++) {
+            Secret secret = new Secret();
+            secret.setProjectId(projectId);
+            secret.setSecretKey(String.format("KEY_%03d", i));
+            secret.setEncryptedValue("ciphertext");
+            secret.setCreatedBy(CREATOR_ID);
+            secrets.add(secret);
+        }
+        secretRepository.saveAll(secrets);
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @Test
+    void metadataPageStatementCountDoesNotGrowWithPageSize() {
+        long onePage = statementsFor(1, pageable ->
+            secretRepository.findMetadataByProjectId(projectId, pageable).map(SecretResponse::from));
+        long hundredPage = statementsFor(100, pageable ->
+            secretRepository.findMetadataByProjectId(projectId, pageable).map(SecretResponse::from));
+
+        assertThat(onePage).isEqualTo(2);
+        assertThat(hundredPage).isEqualTo(onePage);
+    }
+
+    @Test
+    void secretPageStatementCountDoesNotGrowWithPageSize() {
+        long onePage = statementsFor(1, pageable ->
+            secretRepository.findByProjectId(projectId, pageable).map(secret -> SecretResponse.from(secret, null)));
+        long hundredPage = statementsFor(100, pageable ->
+            secretRepository.findByProjectId(projectId, pageable).map(secret -> SecretResponse.from(secret, null)));
+
+        assertThat(onePage).isEqualTo(2);
+        assertThat(hundredPage).isEqualTo(onePage);
+    }
+
+    /**
+     * Prepared statements issued while reading and rendering one full page of {@code size} rows
+     */
+    private long statementsFor(int size, Function<Pageable, Page<SecretResponse>> page) {
+        entityManager.clear();
+        statistics.clear();
+        Page<SecretResponse> result = page.apply(PageRequest.of(0, size, Sort.by("secretKey")));
+        assertThat(result.getContent()).hasSize(size);
+        assertThat(result.getContent()).allSatisfy(response -> {
+            assertThat(response.getVersion()).isEqualTo(1);
+            assertThat(response.getCreatedBy()).isEqualTo(CREATOR_EMAIL);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,96 @@
+package com.secrets.service;
+
+import com.secrets.entity.Secret;
+import com.secrets.entity.SecretVersion;
+import com.secrets.repository.SecretRepository;
+import com.secrets.repository.SecretVersionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many writers versioning one secret at once must each get their own number from the
+ * {@code current_version} counter: 1..N, no gaps, no duplicates.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.hbm2ddl.default_constraint_mode=NO_CONSTRAINT"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test-h2")
+@Import(SecretVersionService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecretVersionServiceConcurrencyTest {
+
+    private static final int WRITERS = 16;
+
+    @Autowired
+    private SecretVersionService secretVersionService;
+
+    @Autowired
+    private SecretRepository secretRepository;
+
+    @Autowired
+    private SecretVersionRepository secretVersionRepository;
+
+    @Test
+    void concurrentWritersGetGaplessDistinctVersionNumbers() throws Exception {
+        UUID userId = UUID.randomUUID();
+        Secret secret = new Secret();
+        secret.setProjectId(UUID.randomUUID());
+        secret.setSecretKey("CONCURRENT_VERSIONS");
+        secret.setEncryptedValue("ciphertext");
+        secret.setCreatedBy(userId);
+        // No version yet, so the writers hand out 1..N between them
+        secret.setCurrentVersion(0);
+        UUID secretId = secretRepository.saveAndFlush(secret).getId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < WRITERS; i++) {
+                results.add(pool.submit(() -> {
+                    Secret own = secretRepository.findById(secretId).orElseThrow();
+                    start.await();
+                    return secretVersionService.createVersion(own, userId, "concurrent write").getVersionNumber();
+                }));
+            }
+            start.countDown();
+
+            List<Integer> handedOut = new ArrayList<>();
+            for (Future<Integer> result : results) {
+                handedOut.add(result.get(30, TimeUnit.SECONDS));
+            }
+            List<Integer> expected = IntStream.rangeClosed(1, WRITERS).boxed().toList();
+            assertThat(handedOut).containsExactlyInAnyOrderElementsOf(expected);
+
+            List<Integer> stored = secretVersionRepository.findAll().stream()
+                .filter(version -> secretId.equals(version.getSecretId()))
+                .map(SecretVersion::getVersionNumber)
+                .sorted()
+                .toList();
+            assertThat(stored).containsExactlyElementsOf(expected);
+            assertThat(secretRepository.findById(secretId).orElseThrow().getCurrentVersion()).isEqualTo(WRITERS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
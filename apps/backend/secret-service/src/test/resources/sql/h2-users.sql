@@ -0,0 +1,32 @@
+-- H2 cannot create the users table from the entity (jsonb, enum and TEXT[] columns), so the
+-- test-h2 profile gets an equivalent table here, plus one creator for secrets to point at.
+CREATE TABLE IF NOT EXISTS users (
+    id UUID PRIMARY KEY,
+    firebase_uid VARCHAR(128) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    display_name VARCHAR(255),
+    avatar_url VARCHAR(500),
+    platform_role VARCHAR(20) NOT NULL,
+    is_active BOOLEAN NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    last_login_at TIMESTAMP,
+    notification_preferences JSON,
+    two_factor_enabled BOOLEAN DEFAULT FALSE NOT NULL,
+    two_factor_type VARCHAR(20),
+    two_factor_secret CLOB,
+    two_factor_recovery_codes VARCHAR ARRAY,
+    two_factor_enabled_at TIMESTAMP,
+    two_factor_last_verified_at TIMESTAMP,
+    pending_two_factor_secret CLOB,
+    pending_two_factor_created_at TIMESTAMP,
+    timezone VARCHAR(50),
+    date_format VARCHAR(20),
+    onboarding_completed BOOLEAN NOT NULL
+);
+
+MERGE INTO users (id, firebase_uid, email, display_name, platform_role, is_active, created_at, updated_at,
+                  onboarding_completed)
+KEY (id)
+VALUES ('00000000-0000-0000-0000-0000000000c1', 'creator-uid', 'creator@example.com', 'Creator', 'USER', TRUE,
+        CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, FALSE);
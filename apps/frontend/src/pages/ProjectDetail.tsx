@@ -123,6 +123,7 @@ export const ProjectDetailPage: React.FC = () => {
       keyword: debouncedSearchTerm || undefined,
       sortBy: secretFilters.sortBy || 'createdAt',
       sortDir: secretFilters.sortDir || 'DESC',
+      includeValues: false,
     }),
     enabled: !!projectId && activeTab === 'secrets',
     staleTime: 60 * 1000, // 1 minute - secrets change more frequently
@@ -121,6 +121,9 @@ export interface Project {
   deletedBy?: string;
   scheduledPermanentDeleteAt?: string;
   isArchived: boolean;
+  plaintextCacheEnabled?: boolean; // Opt-in off-heap cache of decrypted values for hot secrets
+  versionRetentionCount?: number | null; // Keep at least the last N versions; null keeps all
+  versionRetentionDays?: number | null; // Keep versions newer than D days; null keeps all
   memberCount?: number;
   secretCount?: number;
   currentUserRole?: ProjectRole;
@@ -139,6 +142,9 @@ export interface CreateProjectRequest {
 export interface UpdateProjectRequest {
   name?: string;
   description?: string;
+  plaintextCacheEnabled?: boolean;
+  versionRetentionCount?: number; // 0 removes the limit
+  versionRetentionDays?: number; // 0 removes the limit
 }
 
 // ----------------------------------------------------------------------------
@@ -200,11 +206,14 @@ export interface Secret {
   key?: string; // Legacy alias for secretKey
   value?: string; // Only returned when decrypted
   encryptedValue?: string;
+  largeValue?: boolean; // Value is streamed via /secrets/{key}/content instead of returned inline
+  valueSize?: number; // Plaintext size in bytes of a large value
   description?: string;
   tags?: string[];
   version?: number;
   secretVersions?: SecretVersion[];
   createdBy: string;
+  createdByName?: string; // Creator display name, when known
   createdAt: string;
   updatedAt: string;
   expiresAt?: string;
@@ -225,6 +234,25 @@ export interface UpdateSecretRequest {
   expiresAt?: string;
 }
 
+export interface BulkSecretError {
+  secretKey?: string;
+  error: string; // PARSE_ERROR, VALIDATION_ERROR, DUPLICATE_KEY or SECRET_EXISTS
+  message: string;
+}
+
+export interface BulkSecretResponse {
+  total: number;
+  successful: number;
+  failed: number;
+  created: Secret[];
+  errors: BulkSecretError[];
+}
+
+export interface BatchSecretResponse {
+  secrets: Secret[];
+  missing: string[];
+}
+
 export interface MoveSecretRequest {
   targetProjectId: string;
 }
@@ -304,10 +332,19 @@ export interface SecretsListParams {
   keyword?: string;
   sortBy?: string;
   sortDir?: 'ASC' | 'DESC';
+  /** When false the list carries metadata only; values are fetched per key */
+  includeValues?: boolean;
 }
 
 export interface SecretsListResponse extends PaginatedResponse<Secret> {}
 
+/** Keyset page; pass nextCursor back as `cursor` until it is null */
+export interface SecretsCursorResponse {
+  content: Secret[];
+  nextCursor: string | null;
+  totalElements?: number | null;
+}
+
 export interface PaginatedResponse<T> {
   content: T[];
   page: number;
@@ -70,6 +70,10 @@ CREATE TABLE IF NOT EXISTS projects (
     deleted_at TIMESTAMP WITH TIME ZONE,
     deleted_by UUID REFERENCES users(id),
     scheduled_permanent_delete_at TIMESTAMP WITH TIME ZONE,
+    secret_revision BIGINT NOT NULL DEFAULT 0,
+    secret_changes_floor BIGINT NOT NULL DEFAULT 0,
+    version_retention_count INTEGER,
+    version_retention_days INTEGER,
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
 );
@@ -114,8 +118,11 @@ CREATE TABLE IF NOT EXISTS secrets (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
     project_id UUID NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
     secret_key VARCHAR(255) NOT NULL,
-    encrypted_value TEXT NOT NULL,
+    encrypted_payload BYTEA,
+    encrypted_value TEXT,
     description TEXT,
+    value_fingerprint BYTEA,
+    current_version INTEGER NOT NULL DEFAULT 0,
     created_by UUID NOT NULL REFERENCES users(id),
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
@@ -125,6 +132,27 @@ CREATE TABLE IF NOT EXISTS secrets (
 CREATE INDEX IF NOT EXISTS idx_secrets_project_id ON secrets(project_id);
 CREATE INDEX IF NOT EXISTS idx_secrets_project_key ON secrets(project_id, secret_key);
 CREATE INDEX IF NOT EXISTS idx_secrets_created_by ON secrets(created_by);
+CREATE INDEX IF NOT EXISTS idx_secrets_project_key_id ON secrets(project_id, secret_key, id);
+CREATE INDEX IF NOT EXISTS idx_secrets_project_created_id ON secrets(project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_secrets_project_updated_id ON secrets(project_id, updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_secrets_key_trgm ON secrets USING gin (lower(secret_key) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_secrets_description_trgm ON secrets USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_secrets_value_fingerprint ON secrets(value_fingerprint) WHERE value_fingerprint IS NOT NULL;
+
+-- =============================================================================
+-- SECRET CHANGES TABLE (delta sync change log)
+-- =============================================================================
+CREATE TABLE IF NOT EXISTS secret_changes (
+    project_id UUID NOT NULL REFERENCES projects(id) ON DELETE CASCADE,
+    secret_key VARCHAR(255) NOT NULL,
+    revision BIGINT NOT NULL,
+    deleted BOOLEAN NOT NULL DEFAULT FALSE,
+    changed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (project_id, secret_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_secret_changes_project_revision ON secret_changes(project_id, revision);
+CREATE INDEX IF NOT EXISTS idx_secret_changes_tombstones ON secret_changes(changed_at) WHERE deleted;
 
 -- =============================================================================
 -- SECRET VERSIONS TABLE
@@ -132,7 +160,9 @@ CREATE INDEX IF NOT EXISTS idx_secrets_created_by ON secrets(created_by);
 CREATE TABLE IF NOT EXISTS secret_versions (
     id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
     secret_id UUID NOT NULL REFERENCES secrets(id) ON DELETE CASCADE,
-    encrypted_value TEXT NOT NULL,
+    encrypted_payload BYTEA,
+    encrypted_value TEXT,
+    value_fingerprint BYTEA,
     created_by UUID NOT NULL REFERENCES users(id),
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
 );